@@ -0,0 +1,149 @@
+package software.amazon.customerprofiles.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.CreateDomainRequest;
+import software.amazon.awssdk.services.customerprofiles.model.DeleteDomainRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetDomainRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetDomainResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ListDomainsRequest;
+import software.amazon.awssdk.services.customerprofiles.model.TagResourceRequest;
+import software.amazon.awssdk.services.customerprofiles.model.UntagResourceRequest;
+import software.amazon.awssdk.services.customerprofiles.model.UpdateDomainRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collections;
+
+/**
+ * Optional warm-up that runs while the Lambda execution environment initialises, before the first request.
+ *
+ * The first invocation otherwise pays for loading the SDK model classes, marshallers, signer and Jackson
+ * lazily. When {@value #ENABLED_ENV} is set to true, this loads them up front by building the shared client,
+ * priming every operation the handlers use against an in-memory HTTP stub and serializing a resource model.
+ * Warm-up is best effort. It runs from the static initializer of {@link Configuration}, where anything it threw,
+ * linkage errors included, would keep the handler from loading, so every failure is written to standard error and
+ * the handlers fall back to the lazy path.
+ */
+final class Bootstrap {
+
+    static final String ENABLED_ENV = "CUSTOMER_PROFILES_EAGER_BOOTSTRAP";
+    private static final String REGION_ENV = "AWS_REGION";
+    private static final String WARM_UP_NAME = "bootstrap";
+    private static final byte[] EMPTY_JSON = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private static volatile boolean warm;
+
+    private Bootstrap() {
+    }
+
+    static void warmUpIfEnabled() {
+        if (Boolean.parseBoolean(System.getenv(ENABLED_ENV))) {
+            warmUp(System.getenv(REGION_ENV));
+        }
+    }
+
+    /**
+     * Loads and initialises everything the handlers touch on their first invocation.
+     * @param region region whose shared client should be built, or null to skip building it
+     * @return true once the environment has been warmed up successfully
+     */
+    static synchronized boolean warmUp(final String region) {
+        if (warm) {
+            return true;
+        }
+        try {
+            if (region != null) {
+                ClientBuilder.getClient(region);
+            }
+            primeOperations();
+            primeSerialization();
+            warm = true;
+        } catch (Throwable e) {
+            warm = false;
+            System.err.println(String.format("Eager bootstrap failed, continuing without it: %s", e));
+        }
+        return warm;
+    }
+
+    private static void primeOperations() {
+        try (CustomerProfilesClient stubClient = CustomerProfilesClient.builder()
+                .httpClient(new StubHttpClient())
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(WARM_UP_NAME, WARM_UP_NAME)))
+                .build()) {
+            stubClient.createDomain(CreateDomainRequest.builder()
+                    .domainName(WARM_UP_NAME)
+                    .defaultExpirationDays(1)
+                    .tags(Collections.singletonMap(WARM_UP_NAME, WARM_UP_NAME))
+                    .build());
+            stubClient.getDomain(GetDomainRequest.builder().domainName(WARM_UP_NAME).build());
+            stubClient.updateDomain(UpdateDomainRequest.builder().domainName(WARM_UP_NAME).build());
+            stubClient.deleteDomain(DeleteDomainRequest.builder().domainName(WARM_UP_NAME).build());
+            stubClient.listDomains(ListDomainsRequest.builder().build());
+            stubClient.tagResource(TagResourceRequest.builder()
+                    .resourceArn(WARM_UP_NAME)
+                    .tags(Collections.singletonMap(WARM_UP_NAME, WARM_UP_NAME))
+                    .build());
+            stubClient.untagResource(UntagResourceRequest.builder()
+                    .resourceArn(WARM_UP_NAME)
+                    .tagKeys(WARM_UP_NAME)
+                    .build());
+        }
+    }
+
+    private static void primeSerialization() throws IOException {
+        final GetDomainResponse response = GetDomainResponse.builder()
+                .domainName(WARM_UP_NAME)
+                .createdAt(Instant.EPOCH)
+                .lastUpdatedAt(Instant.EPOCH)
+                .tags(Collections.singletonMap(WARM_UP_NAME, WARM_UP_NAME))
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .createdAt(response.createdAt().toString())
+                .domainName(response.domainName())
+                .lastUpdatedAt(response.lastUpdatedAt().toString())
+                .tags(Translator.mapTagsToList(response.tags()))
+                .build();
+        new ObjectMapper().writeValueAsString(model);
+    }
+
+    /**
+     * Answers every request with an empty JSON document so operations can be primed without network access.
+     */
+    static final class StubHttpClient implements SdkHttpClient {
+
+        @Override
+        public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+            return new ExecutableHttpRequest() {
+                @Override
+                public HttpExecuteResponse call() {
+                    return HttpExecuteResponse.builder()
+                            .response(SdkHttpResponse.builder().statusCode(200).build())
+                            .responseBody(AbortableInputStream.create(new ByteArrayInputStream(EMPTY_JSON)))
+                            .build();
+                }
+
+                @Override
+                public void abort() {
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
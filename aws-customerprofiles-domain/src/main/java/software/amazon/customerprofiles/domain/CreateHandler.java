@@ -5,13 +5,8 @@ import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
 import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
 import software.amazon.awssdk.services.customerprofiles.model.CreateDomainRequest;
 import software.amazon.awssdk.services.customerprofiles.model.CreateDomainResponse;
-import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
-import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -35,10 +30,24 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        CallMetrics.setHandler(getClass().getSimpleName());
+        final HandlerLogger log = HandlerLogger.of(logger);
         if (this.client == null) {
-            this.client = ClientBuilder.getClient();
+            this.client = ClientBuilder.getClient(request.getRegion());
         }
 
+        ServiceInvoker.startInvocation();
+        try {
+            return create(proxy, request, log);
+        } finally {
+            ServiceInvoker.endInvocation();
+            CallMetrics.clearHandler();
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> create(final AmazonWebServicesClientProxy proxy,
+                                                                 final ResourceHandlerRequest<ResourceModel> request,
+                                                                 final HandlerLogger log) {
         final ResourceModel model = request.getDesiredResourceState();
 
         Map<String, String> resourceTag;
@@ -59,20 +68,17 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
 
         final CreateDomainResponse createDomainResponse;
         try {
-            createDomainResponse = proxy.injectCredentialsAndInvokeV2(createDomainRequest, client::createDomain);
-            logger.log(String.format("Domain Created with domainName = %s", model.getDomainName()));
+            createDomainResponse = ServiceInvoker.invoke(proxy, createDomainRequest, client::createDomain);
+            DomainCache.invalidate(request);
+            log.info(() -> String.format("Domain Created with domainName = %s", model.getDomainName()));
         } catch (BadRequestException e) {
             if (e.getMessage().contains("Domain " + model.getDomainName() + " already exists")) {
                 throw new CfnAlreadyExistsException(e);
             } else {
                 throw new CfnInvalidRequestException(e);
             }
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
         } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
+            throw ExceptionTranslator.translate(e);
         }
 
         final ResourceModel responseModel = ResourceModel.builder()
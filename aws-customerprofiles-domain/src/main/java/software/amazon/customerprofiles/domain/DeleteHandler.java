@@ -2,15 +2,8 @@ package software.amazon.customerprofiles.domain;
 
 import lombok.NoArgsConstructor;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
-import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
 import software.amazon.awssdk.services.customerprofiles.model.DeleteDomainRequest;
 import software.amazon.awssdk.services.customerprofiles.model.DeleteDomainResponse;
-import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
-import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -33,10 +26,24 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        CallMetrics.setHandler(getClass().getSimpleName());
+        final HandlerLogger log = HandlerLogger.of(logger);
         if (this.client == null) {
-            this.client = ClientBuilder.getClient();
+            this.client = ClientBuilder.getClient(request.getRegion());
         }
 
+        ServiceInvoker.startInvocation();
+        try {
+            return delete(proxy, request, log);
+        } finally {
+            ServiceInvoker.endInvocation();
+            CallMetrics.clearHandler();
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> delete(final AmazonWebServicesClientProxy proxy,
+                                                                 final ResourceHandlerRequest<ResourceModel> request,
+                                                                 final HandlerLogger log) {
         final ResourceModel model = request.getDesiredResourceState();
 
         final DeleteDomainRequest deleteDomainRequest = DeleteDomainRequest.builder()
@@ -45,17 +52,12 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
 
         final DeleteDomainResponse deleteDomainResponse;
         try {
-            deleteDomainResponse = proxy.injectCredentialsAndInvokeV2(deleteDomainRequest, client::deleteDomain);
-            logger.log(String.format("Domain deleted with domainName = %s",
+            deleteDomainResponse = ServiceInvoker.invoke(proxy, deleteDomainRequest, client::deleteDomain);
+            DomainCache.invalidate(request);
+            log.info(() -> String.format("Domain deleted with domainName = %s",
                     model.getDomainName()));
-        } catch (BadRequestException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
         } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
+            throw ExceptionTranslator.translate(e);
         }
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -0,0 +1,109 @@
+package software.amazon.customerprofiles.domain;
+
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+import java.time.Duration;
+
+/**
+ * The HTTP client every {@link ClientBuilder} client sends through, chosen per deployment with {@value #CLIENT_ENV}.
+ *
+ * {@code lambda}, the default, shares the Apache client of the CloudFormation wrapper with its stock settings.
+ * {@code apache} builds a separate Apache client whose pool is sized and timed by the settings below, with TCP
+ * keep-alive and without {@code Expect: 100-continue}, so small JSON writes take one round trip. The idle connection
+ * reaper is off because a frozen Lambda environment cannot run it; connections idle for too long are dropped when they
+ * are leased instead. {@code urlconnection} uses the JDK's {@code HttpURLConnection}, which loads fewer classes and
+ * holds less heap but leaves pooling to the JDK. One client is built per process and shared by every region, so TLS
+ * sessions are resumed across them.
+ */
+final class HttpTransport {
+
+    static final String CLIENT_ENV = "CUSTOMER_PROFILES_HTTP_CLIENT";
+    static final String MAX_CONNECTIONS_ENV = "CUSTOMER_PROFILES_HTTP_MAX_CONNECTIONS";
+    static final String CONNECTION_TIMEOUT_MILLIS_ENV = "CUSTOMER_PROFILES_HTTP_CONNECTION_TIMEOUT_MILLIS";
+    static final String SOCKET_TIMEOUT_MILLIS_ENV = "CUSTOMER_PROFILES_HTTP_SOCKET_TIMEOUT_MILLIS";
+    static final String CONNECTION_MAX_IDLE_MILLIS_ENV = "CUSTOMER_PROFILES_HTTP_CONNECTION_MAX_IDLE_MILLIS";
+
+    private static final long DEFAULT_MAX_CONNECTIONS = 16;
+    private static final long DEFAULT_CONNECTION_TIMEOUT_MILLIS = 2_000;
+    private static final long DEFAULT_SOCKET_TIMEOUT_MILLIS = 30_000;
+    private static final long DEFAULT_CONNECTION_MAX_IDLE_MILLIS = 60_000;
+
+    private static final SdkHttpClient CLIENT = create(kind(System.getenv(CLIENT_ENV)));
+
+    enum Kind {
+        LAMBDA,
+        APACHE,
+        URLCONNECTION
+    }
+
+    private HttpTransport() {
+    }
+
+    static SdkHttpClient client() {
+        return CLIENT;
+    }
+
+    /**
+     * @return the transport named by {@code value}, or {@link Kind#LAMBDA} when it names none
+     */
+    static Kind kind(final String value) {
+        if (value != null) {
+            for (final Kind kind : Kind.values()) {
+                if (kind.name().equalsIgnoreCase(value.trim())) {
+                    return kind;
+                }
+            }
+        }
+        return Kind.LAMBDA;
+    }
+
+    /**
+     * Builds a new client of the given kind from the environment; {@link Kind#LAMBDA} returns the wrapper's client.
+     */
+    static SdkHttpClient create(final Kind kind) {
+        final Duration connectionTimeout = Duration.ofMillis(
+                longFromEnv(CONNECTION_TIMEOUT_MILLIS_ENV, DEFAULT_CONNECTION_TIMEOUT_MILLIS));
+        final Duration socketTimeout = Duration.ofMillis(
+                longFromEnv(SOCKET_TIMEOUT_MILLIS_ENV, DEFAULT_SOCKET_TIMEOUT_MILLIS));
+        switch (kind) {
+            case APACHE:
+                return ApacheHttpClient.builder()
+                        .maxConnections((int) longFromEnv(MAX_CONNECTIONS_ENV, DEFAULT_MAX_CONNECTIONS))
+                        .connectionTimeout(connectionTimeout)
+                        .connectionAcquisitionTimeout(connectionTimeout)
+                        .socketTimeout(socketTimeout)
+                        .connectionMaxIdleTime(Duration.ofMillis(
+                                longFromEnv(CONNECTION_MAX_IDLE_MILLIS_ENV, DEFAULT_CONNECTION_MAX_IDLE_MILLIS)))
+                        .useIdleConnectionReaper(false)
+                        .tcpKeepAlive(true)
+                        .expectContinueEnabled(false)
+                        .build();
+            case URLCONNECTION:
+                return UrlConnectionHttpClient.builder()
+                        .connectionTimeout(connectionTimeout)
+                        .socketTimeout(socketTimeout)
+                        .build();
+            default:
+                return LambdaWrapper.HTTP_CLIENT;
+        }
+    }
+
+    static long longValue(final String value, final long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            final long parsed = Long.parseLong(value.trim());
+            return parsed > 0 ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static long longFromEnv(final String name, final long defaultValue) {
+        return longValue(System.getenv(name), defaultValue);
+    }
+}
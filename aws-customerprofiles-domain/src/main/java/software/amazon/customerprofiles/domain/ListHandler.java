@@ -2,16 +2,9 @@ package software.amazon.customerprofiles.domain;
 
 import lombok.NoArgsConstructor;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
-import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
-import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
+import software.amazon.awssdk.services.customerprofiles.model.ListDomainItem;
 import software.amazon.awssdk.services.customerprofiles.model.ListDomainsRequest;
 import software.amazon.awssdk.services.customerprofiles.model.ListDomainsResponse;
-import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsResponse;
-import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -20,16 +13,36 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @NoArgsConstructor
 public class ListHandler extends BaseHandler<CallbackContext> {
 
+    static final String MAX_PAGES_ENV = "CUSTOMER_PROFILES_LIST_MAX_PAGES";
+    static final String TIME_BUDGET_MILLIS_ENV = "CUSTOMER_PROFILES_LIST_TIME_BUDGET_MILLIS";
+    private static final long DEFAULT_MAX_PAGES = 1;
+    private static final long DEFAULT_TIME_BUDGET_MILLIS = 30000;
+
     private CustomerProfilesClient client;
+    private long maxPages = longFromEnv(MAX_PAGES_ENV, DEFAULT_MAX_PAGES);
+    private long timeBudgetMillis = longFromEnv(TIME_BUDGET_MILLIS_ENV, DEFAULT_TIME_BUDGET_MILLIS);
 
     public ListHandler(CustomerProfilesClient client) {
         this.client = client;
     }
 
+    /**
+     * @param maxPages         how many ListDomains pages to read in one invocation before handing the next token
+     *                         back to CloudFormation
+     * @param timeBudgetMillis stop reading further pages once this much time has passed since the invocation started.
+     *                         The handler cannot see the Lambda remaining time, so keep this below the handler timeout.
+     */
+    public ListHandler(CustomerProfilesClient client, long maxPages, long timeBudgetMillis) {
+        this.client = client;
+        this.maxPages = maxPages;
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -37,42 +50,68 @@ public class ListHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        CallMetrics.setHandler(getClass().getSimpleName());
+        final HandlerLogger log = HandlerLogger.of(logger).sampled(HandlerLogger.LIST_SAMPLE_RATE);
         if (this.client == null) {
-            this.client = ClientBuilder.getClient();
+            this.client = ClientBuilder.getClient(request.getRegion());
         }
 
-        final ListDomainsRequest listDomainsRequest = ListDomainsRequest.builder()
-                .nextToken(request.getNextToken())
-                .build();
-
-        final ListDomainsResponse listDomainsResponse;
+        ServiceInvoker.startInvocation();
         try {
-            listDomainsResponse = proxy.injectCredentialsAndInvokeV2(listDomainsRequest, client::listDomains);
-        } catch (BadRequestException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
-        } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
+            return list(proxy, request, log);
+        } finally {
+            ServiceInvoker.endInvocation();
+            CallMetrics.clearHandler();
         }
+    }
 
-        List<ResourceModel> responseModels = new ArrayList<>();
-        listDomainsResponse.items().forEach(res -> {
-            ResourceModel responseModel = ResourceModel.builder()
-                    .createdAt(res.createdAt().toString())
-                    .domainName(res.domainName())
-                    .lastUpdatedAt(res.lastUpdatedAt().toString())
-                    .tags(Translator.mapTagsToList(res.tags()))
-                    .build();
-            responseModels.add(responseModel);
-        });
+    private ProgressEvent<ResourceModel, CallbackContext> list(final AmazonWebServicesClientProxy proxy,
+                                                               final ResourceHandlerRequest<ResourceModel> request,
+                                                               final HandlerLogger log) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        final List<ListDomainItem> items = new ArrayList<>();
+        String nextToken = request.getNextToken();
+        long pages = 0;
+        do {
+            final ListDomainsResponse listDomainsResponse = listDomains(proxy, nextToken);
+            items.addAll(listDomainsResponse.items());
+            nextToken = listDomainsResponse.nextToken();
+            pages++;
+        } while (nextToken != null && pages < maxPages && System.nanoTime() - deadline < 0);
+
+        final long pageCount = pages;
+        if (pageCount > 1) {
+            log.info(() -> String.format("Listed %d Domains from %d pages", items.size(), pageCount));
+        }
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(responseModels)
+                .resourceModels(Translator.translateFromListItems(items))
                 .status(OperationStatus.SUCCESS)
-                .nextToken(listDomainsResponse.nextToken())
+                .nextToken(nextToken)
+                .build();
+    }
+
+    private ListDomainsResponse listDomains(final AmazonWebServicesClientProxy proxy, final String nextToken) {
+        final ListDomainsRequest listDomainsRequest = ListDomainsRequest.builder()
+                .nextToken(nextToken)
                 .build();
+
+        try {
+            return ServiceInvoker.invoke(proxy, listDomainsRequest, client::listDomains);
+        } catch (Exception e) {
+            throw ExceptionTranslator.translate(e);
+        }
+    }
+
+    private static long longFromEnv(final String name, final long defaultValue) {
+        final String value = System.getenv(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
     }
 }
@@ -2,15 +2,8 @@ package software.amazon.customerprofiles.domain;
 
 import lombok.NoArgsConstructor;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
-import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
 import software.amazon.awssdk.services.customerprofiles.model.GetDomainRequest;
 import software.amazon.awssdk.services.customerprofiles.model.GetDomainResponse;
-import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
-import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -32,10 +25,24 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        CallMetrics.setHandler(getClass().getSimpleName());
+        final HandlerLogger log = HandlerLogger.of(logger);
         if (this.client == null) {
-            this.client = ClientBuilder.getClient();
+            this.client = ClientBuilder.getClient(request.getRegion());
         }
 
+        ServiceInvoker.startInvocation();
+        try {
+            return read(proxy, request, log);
+        } finally {
+            ServiceInvoker.endInvocation();
+            CallMetrics.clearHandler();
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> read(final AmazonWebServicesClientProxy proxy,
+                                                               final ResourceHandlerRequest<ResourceModel> request,
+                                                               final HandlerLogger log) {
         final ResourceModel model = request.getDesiredResourceState();
 
         final GetDomainRequest getDomainRequest = GetDomainRequest.builder()
@@ -44,16 +51,10 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
 
         final GetDomainResponse getDomainResponse;
         try {
-            getDomainResponse = proxy.injectCredentialsAndInvokeV2(getDomainRequest, client::getDomain);
-            logger.log(String.format("Get Domain with domainName = %s", model.getDomainName()));
-        } catch (BadRequestException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
+            getDomainResponse = ServiceInvoker.invoke(proxy, getDomainRequest, client::getDomain);
+            log.info(() -> String.format("Get Domain with domainName = %s", model.getDomainName()));
         } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
+            throw ExceptionTranslator.translate(e);
         }
 
         final ResourceModel responseModel = ResourceModel.builder()
@@ -0,0 +1,34 @@
+package software.amazon.customerprofiles.domain;
+
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compares the previous and desired state of a domain so updates only write what actually changed.
+ *
+ * Read-only properties (CreatedAt, LastUpdatedAt) are ignored. Tags are left to {@link TagHelper}, because the
+ * resource tags on the request also carry stack-level tags.
+ */
+final class ResourceModelDiff {
+
+    private ResourceModelDiff() {
+    }
+
+    /**
+     * @return names of the writable properties whose value differs, empty when nothing changed
+     */
+    static Set<String> changedProperties(final ResourceModel previous, final ResourceModel desired) {
+        final Set<String> changed = new LinkedHashSet<>();
+        if (!Objects.equals(previous.getDeadLetterQueueUrl(), desired.getDeadLetterQueueUrl())) {
+            changed.add("DeadLetterQueueUrl");
+        }
+        if (!Objects.equals(previous.getDefaultEncryptionKey(), desired.getDefaultEncryptionKey())) {
+            changed.add("DefaultEncryptionKey");
+        }
+        if (!Objects.equals(previous.getDefaultExpirationDays(), desired.getDefaultExpirationDays())) {
+            changed.add("DefaultExpirationDays");
+        }
+        return changed;
+    }
+}
@@ -1,18 +1,16 @@
 package software.amazon.customerprofiles.domain;
 
-import com.google.common.collect.Lists;
+import software.amazon.awssdk.services.customerprofiles.model.ListDomainItem;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class Translator {
 
-    static String ARN_FORMAT = "arn:%s:profile:%s:%s:domains/%s";
-
     static String toDomainARN(final ResourceHandlerRequest<ResourceModel> request) {
-        return String.format(ARN_FORMAT, request.getAwsPartition(), request.getRegion(), request.getAwsAccountId(),
+        return ProfileArn.domain(request.getAwsPartition(), request.getRegion(), request.getAwsAccountId(),
                 request.getDesiredResourceState().getDomainName());
     }
 
@@ -20,11 +18,32 @@ public class Translator {
         if (tags.isEmpty()) {
             return null;
         }
-        return tags.entrySet().stream()
-                .map(t -> Tag.builder()
-                        .key(t.getKey())
-                        .value(t.getValue()).build())
-                .collect(Collectors.toList());
+        final List<Tag> tagList = new ArrayList<>(tags.size());
+        tags.forEach((key, value) -> tagList.add(Tag.builder()
+                .key(key)
+                .value(value).build()));
+        return tagList;
+    }
+
+    /**
+     * Converts the listed domains to resource models once, into a list sized for the page. The handler response is
+     * read more than once on its way out, so a lazy view would convert every item again on each pass.
+     */
+    static List<ResourceModel> translateFromListItems(final List<ListDomainItem> items) {
+        final List<ResourceModel> models = new ArrayList<>(items.size());
+        for (final ListDomainItem item : items) {
+            models.add(translateFromListItem(item));
+        }
+        return models;
+    }
+
+    static ResourceModel translateFromListItem(final ListDomainItem item) {
+        return ResourceModel.builder()
+                .createdAt(item.createdAt().toString())
+                .domainName(item.domainName())
+                .lastUpdatedAt(item.lastUpdatedAt().toString())
+                .tags(mapTagsToList(item.tags()))
+                .build();
     }
 
 }
@@ -1,27 +1,16 @@
 package software.amazon.customerprofiles.domain;
 
-import com.google.common.collect.Lists;
 import lombok.NoArgsConstructor;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
-import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
-import software.amazon.awssdk.services.customerprofiles.model.GetDomainRequest;
-import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
-import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.customerprofiles.model.UntagResourceRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetDomainResponse;
 import software.amazon.awssdk.services.customerprofiles.model.UpdateDomainRequest;
 import software.amazon.awssdk.services.customerprofiles.model.UpdateDomainResponse;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @NoArgsConstructor
 public class UpdateHandler extends BaseHandler<CallbackContext> {
@@ -39,47 +28,53 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        CallMetrics.setHandler(getClass().getSimpleName());
+        final HandlerLogger log = HandlerLogger.of(logger);
         if (this.client == null) {
-            this.client = ClientBuilder.getClient();
+            this.client = ClientBuilder.getClient(request.getRegion());
         }
 
+        ServiceInvoker.startInvocation();
+        try {
+            return update(proxy, request, log);
+        } finally {
+            ServiceInvoker.endInvocation();
+            CallMetrics.clearHandler();
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> update(final AmazonWebServicesClientProxy proxy,
+                                                                 final ResourceHandlerRequest<ResourceModel> request,
+                                                                 final HandlerLogger log) {
         final ResourceModel model = request.getDesiredResourceState();
 
-        final GetDomainRequest getDomainRequest = GetDomainRequest.builder()
-                .domainName(model.getDomainName())
-                .build();
+        // When only tags can have changed, apply the tag delta without rewriting the resource
+        if (request.getPreviousResourceState() != null
+                && ResourceModelDiff.changedProperties(request.getPreviousResourceState(), model).isEmpty()) {
+            try {
+                TagHelper.updateTags(proxy, client, Translator.toDomainARN(request),
+                        request.getPreviousResourceTags(), request.getDesiredResourceTags());
+            } catch (Exception e) {
+                throw ExceptionTranslator.translate(e);
+            } finally {
+                // The cached Get response carries the old tags, even if only part of the delta was applied
+                DomainCache.invalidate(request);
+            }
+            log.info(() -> String.format("Domain with domainName = %s has no changes other than tags",
+                    model.getDomainName()));
+            model.setCreatedAt(request.getPreviousResourceState().getCreatedAt());
+            model.setLastUpdatedAt(request.getPreviousResourceState().getLastUpdatedAt());
+            return ProgressEvent.defaultSuccessHandler(model);
+        }
 
         // If this domain is never created, can not be updated
+        final GetDomainResponse getDomainResponse;
         try {
-            proxy.injectCredentialsAndInvokeV2(getDomainRequest, client::getDomain);
-            logger.log(String.format("Get Domain with domainName = %s",
+            getDomainResponse = DomainCache.get(proxy, client, request);
+            log.info(() -> String.format("Get Domain with domainName = %s",
                     model.getDomainName()));
-        } catch (BadRequestException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
         } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
-        }
-
-        final List<Tag> previousTags = request.getPreviousResourceTags() == null ? Lists.newArrayList() :
-                Translator.mapTagsToList(request.getPreviousResourceTags());
-
-        if (previousTags != null) {
-            final List<String> tagsToRemove = previousTags.stream()
-                    .map(Tag::getKey)
-                    .collect(Collectors.toList());
-
-            // Remove previous tags
-            if (tagsToRemove.size() > 0) {
-                final UntagResourceRequest untagResourceRequest = UntagResourceRequest.builder()
-                        .resourceArn(Translator.toDomainARN(request))
-                        .tagKeys(tagsToRemove)
-                        .build();
-                proxy.injectCredentialsAndInvokeV2(untagResourceRequest, client::untagResource);
-            }
+            throw ExceptionTranslator.translate(e);
         }
 
         final Map<String, String> resourceTag;
@@ -100,17 +95,22 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
 
         final UpdateDomainResponse updateDomainResponse;
         try {
-            updateDomainResponse = proxy.injectCredentialsAndInvokeV2(updateDomainRequest, client::updateDomain);
-            logger.log(String.format("Update Domain with domainName = %s",
+            updateDomainResponse = ServiceInvoker.invoke(proxy, updateDomainRequest, client::updateDomain);
+            DomainCache.invalidate(request);
+            log.info(() -> String.format("Update Domain with domainName = %s",
                     model.getDomainName()));
-        } catch (BadRequestException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
         } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
+            throw ExceptionTranslator.translate(e);
+        }
+
+        // The write above already carried the desired tags, so only keys that are no longer wanted need removing
+        try {
+            TagHelper.removeTags(proxy, client, Translator.toDomainARN(request),
+                    request.getPreviousResourceTags(), request.getDesiredResourceTags());
+        } catch (Exception e) {
+            throw ExceptionTranslator.translate(e);
+        } finally {
+            DomainCache.invalidate(request);
         }
 
         final ResourceModel responseModel = ResourceModel.builder()
@@ -0,0 +1,20 @@
+package software.amazon.customerprofiles.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BootstrapTest {
+
+    @Test
+    public void warmUp_primesClientAndOperations() {
+        final long misses = ClientBuilder.getCacheMisses();
+
+        assertThat(Bootstrap.warmUp("eu-west-2")).isTrue();
+        assertThat(ClientBuilder.getCacheMisses()).isEqualTo(misses + 1);
+
+        // Repeated calls are no-ops once the environment is warm
+        assertThat(Bootstrap.warmUp("eu-west-2")).isTrue();
+        assertThat(ClientBuilder.getCacheMisses()).isEqualTo(misses + 1);
+    }
+}
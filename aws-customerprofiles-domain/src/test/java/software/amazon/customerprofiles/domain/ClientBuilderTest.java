@@ -0,0 +1,46 @@
+package software.amazon.customerprofiles.domain;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientBuilderTest {
+
+    @Test
+    public void getClient_sameRegion_reusesClient() {
+        final CustomerProfilesClient first = ClientBuilder.getClient("us-east-1");
+        final long hits = ClientBuilder.getCacheHits();
+
+        final CustomerProfilesClient second = ClientBuilder.getClient("us-east-1");
+
+        assertThat(second).isSameAs(first);
+        assertThat(ClientBuilder.getCacheHits()).isEqualTo(hits + 1);
+        assertThat(ClientBuilder.getCacheMisses()).isGreaterThanOrEqualTo(1);
+        assertThat(ClientBuilder.getBuildTimeNanos()).isPositive();
+    }
+
+    @Test
+    public void getClient_differentRegion_buildsNewClient() {
+        final CustomerProfilesClient east = ClientBuilder.getClient("us-east-1");
+        final CustomerProfilesClient west = ClientBuilder.getClient("us-west-2");
+
+        assertThat(west).isNotSameAs(east);
+    }
+
+    @Test
+    public void endpoint_httpUrl_parsed() {
+        assertThat(ClientBuilder.endpoint(" http://localhost:8080 ")).isEqualTo(URI.create("http://localhost:8080"));
+        assertThat(ClientBuilder.endpoint("https://profile.example.com")).hasScheme("https");
+    }
+
+    @Test
+    public void endpoint_missingOrInvalid_null() {
+        assertThat(ClientBuilder.endpoint(null)).isNull();
+        assertThat(ClientBuilder.endpoint(" ")).isNull();
+        assertThat(ClientBuilder.endpoint("localhost:8080")).isNull();
+        assertThat(ClientBuilder.endpoint("http://local host")).isNull();
+    }
+}
@@ -9,10 +9,10 @@ import software.amazon.awssdk.services.customerprofiles.model.InternalServerExce
 import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -231,7 +231,7 @@ public class CreateHandlerTest {
     }
 
     @Test
-    public void handleRequest_otherException() {
+    public void handleRequest_ThrottlingException() {
         final CreateHandler handler = new CreateHandler(customerProfilesClient);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -245,6 +245,6 @@ public class CreateHandlerTest {
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenThrow(exc);
 
-        assertThrows(CfnGeneralServiceException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        assertThrows(CfnThrottlingException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
 }
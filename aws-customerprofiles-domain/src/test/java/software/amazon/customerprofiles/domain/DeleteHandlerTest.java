@@ -7,10 +7,10 @@ import software.amazon.awssdk.services.customerprofiles.model.DeleteDomainRespon
 import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
 import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -133,7 +133,7 @@ public class DeleteHandlerTest {
     }
 
     @Test
-    public void handleRequest_otherException() {
+    public void handleRequest_ThrottlingException() {
         final DeleteHandler handler = new DeleteHandler(customerProfilesClient);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -147,6 +147,6 @@ public class DeleteHandlerTest {
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenThrow(exc);
 
-        assertThrows(CfnGeneralServiceException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        assertThrows(CfnThrottlingException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
 }
@@ -0,0 +1,99 @@
+package software.amazon.customerprofiles.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.GetDomainRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetDomainResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class DomainCacheTest {
+
+    private static final String DOMAIN_NAME = "testDomainName";
+
+    private AmazonWebServicesClientProxy proxy;
+    private CustomerProfilesClient customerProfilesClient;
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    @BeforeEach
+    public void setup() {
+        DomainCache.setTtlSeconds(5);
+        proxy = Mockito.mock(AmazonWebServicesClientProxy.class);
+        customerProfilesClient = Mockito.mock(CustomerProfilesClient.class);
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .desiredResourceState(ResourceModel.builder()
+                        .domainName(DOMAIN_NAME)
+                        .build())
+                .build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        DomainCache.setTtlSeconds(0);
+    }
+
+    @Test
+    public void get_repeatedLookup_servedFromCache() {
+        final GetDomainResponse getDomainResponse = GetDomainResponse.builder()
+                .domainName(DOMAIN_NAME)
+                .build();
+        Mockito.doReturn(getDomainResponse).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetDomainRequest.class), any());
+
+        final GetDomainResponse first = DomainCache.get(proxy, customerProfilesClient, request);
+        final GetDomainResponse second = DomainCache.get(proxy, customerProfilesClient, request);
+
+        assertThat(first).isSameAs(getDomainResponse);
+        assertThat(second).isSameAs(getDomainResponse);
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(GetDomainRequest.class), any());
+    }
+
+    @Test
+    public void get_afterInvalidate_callsService() {
+        Mockito.doReturn(GetDomainResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetDomainRequest.class), any());
+
+        DomainCache.get(proxy, customerProfilesClient, request);
+        DomainCache.invalidate(request);
+        DomainCache.get(proxy, customerProfilesClient, request);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(GetDomainRequest.class), any());
+    }
+
+    @Test
+    public void get_serviceError_notCached() {
+        Mockito.doThrow(ResourceNotFoundException.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetDomainRequest.class), any());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> DomainCache.get(proxy, customerProfilesClient, request));
+        assertThrows(ResourceNotFoundException.class,
+                () -> DomainCache.get(proxy, customerProfilesClient, request));
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(GetDomainRequest.class), any());
+    }
+
+    @Test
+    public void get_noTtl_alwaysCallsService() {
+        DomainCache.setTtlSeconds(0);
+        Mockito.doReturn(GetDomainResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetDomainRequest.class), any());
+
+        DomainCache.get(proxy, customerProfilesClient, request);
+        DomainCache.get(proxy, customerProfilesClient, request);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(GetDomainRequest.class), any());
+    }
+}
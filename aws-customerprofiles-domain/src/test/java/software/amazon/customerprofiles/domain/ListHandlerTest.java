@@ -1,6 +1,7 @@
 package software.amazon.customerprofiles.domain;
 
 import com.google.common.collect.Lists;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
@@ -8,13 +9,14 @@ import software.amazon.awssdk.services.customerprofiles.model.BadRequestExceptio
 import software.amazon.awssdk.services.customerprofiles.model.GetDomainRequest;
 import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
 import software.amazon.awssdk.services.customerprofiles.model.ListDomainItem;
+import software.amazon.awssdk.services.customerprofiles.model.ListDomainsRequest;
 import software.amazon.awssdk.services.customerprofiles.model.ListDomainsResponse;
 import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -31,6 +33,8 @@ import java.time.Instant;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
@@ -154,7 +158,7 @@ public class ListHandlerTest {
     }
 
     @Test
-    public void handleRequest_otherException() {
+    public void handleRequest_ThrottlingException() {
         final ListHandler handler = new ListHandler(customerProfilesClient);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -168,6 +172,85 @@ public class ListHandlerTest {
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenThrow(exc);
 
-        assertThrows(CfnGeneralServiceException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        assertThrows(CfnThrottlingException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    @Test
+    public void handleRequest_multiplePages_drainsAllPages() {
+        final ListHandler handler = new ListHandler(customerProfilesClient, 10, 60000);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenReturn(page("testDomainName1", "token1"),
+                        page("testDomainName2", "token2"),
+                        page("testDomainName3", null));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(3);
+        assertThat(response.getResourceModels().get(2).getDomainName()).isEqualTo("testDomainName3");
+        assertThat(response.getNextToken()).isNull();
+
+        final ArgumentCaptor<ListDomainsRequest> captor = ArgumentCaptor.forClass(ListDomainsRequest.class);
+        verify(proxy, times(3)).injectCredentialsAndInvokeV2(captor.capture(), any());
+        assertThat(captor.getAllValues().get(0).nextToken()).isNull();
+        assertThat(captor.getAllValues().get(1).nextToken()).isEqualTo("token1");
+        assertThat(captor.getAllValues().get(2).nextToken()).isEqualTo("token2");
+    }
+
+    @Test
+    public void handleRequest_maxPagesReached_returnsNextToken() {
+        final ListHandler handler = new ListHandler(customerProfilesClient, 2, 60000);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .nextToken("token0")
+                .build();
+
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenReturn(page("testDomainName1", "token1"),
+                        page("testDomainName2", "token2"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getNextToken()).isEqualTo("token2");
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void handleRequest_timeBudgetExhausted_returnsNextToken() {
+        final ListHandler handler = new ListHandler(customerProfilesClient, 10, 0);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenReturn(page("testDomainName1", "token1"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getNextToken()).isEqualTo("token1");
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    private static ListDomainsResponse page(final String name, final String nextToken) {
+        return ListDomainsResponse.builder()
+                .items(Lists.newArrayList(ListDomainItem.builder()
+                        .domainName(name)
+                        .createdAt(TIME)
+                        .lastUpdatedAt(TIME)
+                        .build()))
+                .nextToken(nextToken)
+                .build();
     }
 }
@@ -0,0 +1,46 @@
+package software.amazon.customerprofiles.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceModelDiffTest {
+
+    private static final String DOMAIN_NAME = "testDomainName";
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+    private static final String KEY_ARN = "arn:aws:kms:us-east-1:123456789012:key/1234abcd-12ab-34cd-56ef-1234567890ab";
+
+    @Test
+    public void changedProperties_sameModel() {
+        assertThat(ResourceModelDiff.changedProperties(model(10), model(10))).isEmpty();
+    }
+
+    @Test
+    public void changedProperties_readOnlyPropertiesIgnored() {
+        final ResourceModel previous = model(10);
+        previous.setCreatedAt("2021-01-01T00:00:00Z");
+        previous.setLastUpdatedAt("2021-01-01T00:00:00Z");
+
+        assertThat(ResourceModelDiff.changedProperties(previous, model(10))).isEmpty();
+    }
+
+    @Test
+    public void changedProperties_allWritableProperties() {
+        final ResourceModel desired = ResourceModel.builder()
+                .domainName(DOMAIN_NAME)
+                .defaultExpirationDays(20)
+                .build();
+
+        assertThat(ResourceModelDiff.changedProperties(model(10), desired))
+                .containsExactly("DeadLetterQueueUrl", "DefaultEncryptionKey", "DefaultExpirationDays");
+    }
+
+    private static ResourceModel model(final int expirationDays) {
+        return ResourceModel.builder()
+                .domainName(DOMAIN_NAME)
+                .deadLetterQueueUrl(QUEUE_URL)
+                .defaultEncryptionKey(KEY_ARN)
+                .defaultExpirationDays(expirationDays)
+                .build();
+    }
+}
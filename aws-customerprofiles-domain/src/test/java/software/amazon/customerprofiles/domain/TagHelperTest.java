@@ -0,0 +1,69 @@
+package software.amazon.customerprofiles.domain;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.TagResourceRequest;
+import software.amazon.awssdk.services.customerprofiles.model.UntagResourceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class TagHelperTest {
+
+    private static final String ARN = "arn:aws:profile:us-east-1:123456789012:domains/testDomainName";
+    private static final Map<String, String> PREVIOUS_TAGS = ImmutableMap.of("Key1", "Value1", "Key2", "Value2");
+    private static final Map<String, String> DESIRED_TAGS = ImmutableMap.of("Key2", "Value4", "Key3", "Value3");
+
+    private AmazonWebServicesClientProxy proxy;
+    private CustomerProfilesClient customerProfilesClient;
+
+    @BeforeEach
+    public void setup() {
+        proxy = Mockito.mock(AmazonWebServicesClientProxy.class);
+        customerProfilesClient = Mockito.mock(CustomerProfilesClient.class);
+    }
+
+    @Test
+    public void tagsToAdd_newAndChangedOnly() {
+        assertThat(TagHelper.tagsToAdd(PREVIOUS_TAGS, DESIRED_TAGS)).isEqualTo(DESIRED_TAGS);
+        assertThat(TagHelper.tagsToAdd(PREVIOUS_TAGS, ImmutableMap.of("Key1", "Value1"))).isEmpty();
+        assertThat(TagHelper.tagsToAdd(null, DESIRED_TAGS)).isEqualTo(DESIRED_TAGS);
+    }
+
+    @Test
+    public void tagsToRemove_missingKeysOnly() {
+        assertThat(TagHelper.tagsToRemove(PREVIOUS_TAGS, DESIRED_TAGS)).containsExactly("Key1");
+        assertThat(TagHelper.tagsToRemove(PREVIOUS_TAGS, null)).containsExactlyInAnyOrder("Key1", "Key2");
+        assertThat(TagHelper.tagsToRemove(null, DESIRED_TAGS)).isEmpty();
+    }
+
+    @Test
+    public void updateTags_appliesDelta() {
+        TagHelper.updateTags(proxy, customerProfilesClient, ARN, PREVIOUS_TAGS, DESIRED_TAGS);
+
+        final ArgumentCaptor<TagResourceRequest> tagCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
+        verify(proxy).injectCredentialsAndInvokeV2(tagCaptor.capture(), any());
+        assertThat(tagCaptor.getValue().resourceArn()).isEqualTo(ARN);
+        assertThat(tagCaptor.getValue().tags()).isEqualTo(DESIRED_TAGS);
+
+        final ArgumentCaptor<UntagResourceRequest> untagCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
+        verify(proxy).injectCredentialsAndInvokeV2(untagCaptor.capture(), any());
+        assertThat(untagCaptor.getValue().tagKeys()).containsExactly("Key1");
+    }
+
+    @Test
+    public void updateTags_sameTags_noCalls() {
+        TagHelper.updateTags(proxy, customerProfilesClient, ARN, DESIRED_TAGS, DESIRED_TAGS);
+
+        verifyNoInteractions(proxy);
+    }
+}
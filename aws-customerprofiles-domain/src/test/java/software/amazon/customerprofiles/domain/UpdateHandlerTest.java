@@ -3,19 +3,24 @@ package software.amazon.customerprofiles.domain;
 import com.google.common.collect.ImmutableMap;
 import org.mockito.Mockito;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.AccessDeniedException;
 import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
 import software.amazon.awssdk.services.customerprofiles.model.GetDomainRequest;
 import software.amazon.awssdk.services.customerprofiles.model.GetDomainResponse;
 import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
 import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.customerprofiles.model.TagResourceRequest;
+import software.amazon.awssdk.services.customerprofiles.model.TagResourceResponse;
 import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
 import software.amazon.awssdk.services.customerprofiles.model.UntagResourceRequest;
+import software.amazon.awssdk.services.customerprofiles.model.UntagResourceResponse;
 import software.amazon.awssdk.services.customerprofiles.model.UpdateDomainRequest;
 import software.amazon.awssdk.services.customerprofiles.model.UpdateDomainResponse;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -33,6 +38,10 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest {
@@ -58,6 +67,7 @@ public class UpdateHandlerTest {
 
     @BeforeEach
     public void setup() {
+        DomainCache.setTtlSeconds(0);
         proxy = Mockito.mock(AmazonWebServicesClientProxy.class);
         customerProfilesClient = Mockito.mock(CustomerProfilesClient.class);
         logger = Mockito.mock(Logger.class);
@@ -91,6 +101,8 @@ public class UpdateHandlerTest {
 
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenReturn(updateDomainResponse);
+        Mockito.doReturn(GetDomainResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetDomainRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -126,6 +138,8 @@ public class UpdateHandlerTest {
 
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenReturn(updateDomainResponse);
+        Mockito.doReturn(GetDomainResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetDomainRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -159,6 +173,8 @@ public class UpdateHandlerTest {
 
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenReturn(updateDomainResponse);
+        Mockito.doReturn(GetDomainResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetDomainRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -191,6 +207,8 @@ public class UpdateHandlerTest {
 
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenReturn(updateDomainResponse);
+        Mockito.doReturn(GetDomainResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetDomainRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -224,6 +242,8 @@ public class UpdateHandlerTest {
 
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenReturn(updateDomainResponse);
+        Mockito.doReturn(GetDomainResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetDomainRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -300,7 +320,7 @@ public class UpdateHandlerTest {
     }
 
     @Test
-    public void handleRequest_getDomain_otherException() {
+    public void handleRequest_getDomain_ThrottlingException() {
         final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -316,7 +336,7 @@ public class UpdateHandlerTest {
         Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
                 any(GetDomainRequest.class), any());
 
-        assertThrows(CfnGeneralServiceException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        assertThrows(CfnThrottlingException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
 
     @Test
@@ -407,7 +427,7 @@ public class UpdateHandlerTest {
     }
 
     @Test
-    public void handleRequest_updateDomain_otherException() {
+    public void handleRequest_updateDomain_ThrottlingException() {
         final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -432,6 +452,88 @@ public class UpdateHandlerTest {
         Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
                 any(UpdateDomainRequest.class), any());
 
-        assertThrows(CfnGeneralServiceException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        assertThrows(CfnThrottlingException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    @Test
+    public void handleRequest_noChanges_skipsServiceCalls() {
+        final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(model)
+                .desiredResourceState(model)
+                .previousResourceTags(DESIRED_TAGS)
+                .desiredResourceTags(DESIRED_TAGS)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(model);
+        verifyNoInteractions(proxy);
+    }
+
+    @Test
+    public void handleRequest_onlyTagsChanged_appliesTagDelta() {
+        final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(model)
+                .desiredResourceState(model)
+                .previousResourceTags(PREVIOUS_TAGS)
+                .desiredResourceTags(DESIRED_TAGS)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxy).injectCredentialsAndInvokeV2(any(TagResourceRequest.class), any());
+        verify(proxy).injectCredentialsAndInvokeV2(any(UntagResourceRequest.class), any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(UpdateDomainRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_onlyTagsChanged_invalidatesCachedGet() {
+        DomainCache.setTtlSeconds(5);
+        final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(model)
+                .desiredResourceState(model)
+                .previousResourceTags(PREVIOUS_TAGS)
+                .desiredResourceTags(DESIRED_TAGS)
+                .build();
+
+        Mockito.doReturn(GetDomainResponse.builder().tags(PREVIOUS_TAGS).build()).when(proxy)
+                .injectCredentialsAndInvokeV2(any(GetDomainRequest.class), any());
+        Mockito.doReturn(TagResourceResponse.builder().build()).when(proxy)
+                .injectCredentialsAndInvokeV2(any(TagResourceRequest.class), any());
+        Mockito.doReturn(UntagResourceResponse.builder().build()).when(proxy)
+                .injectCredentialsAndInvokeV2(any(UntagResourceRequest.class), any());
+        DomainCache.get(proxy, customerProfilesClient, request);
+
+        handler.handleRequest(proxy, request, null, logger);
+        DomainCache.get(proxy, customerProfilesClient, request);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(GetDomainRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_onlyTagsChanged_AccessDeniedException() {
+        final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(model)
+                .desiredResourceState(model)
+                .previousResourceTags(PREVIOUS_TAGS)
+                .desiredResourceTags(DESIRED_TAGS)
+                .build();
+
+        Mockito.doThrow(AccessDeniedException.builder().message("AccessDeniedException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(TagResourceRequest.class), any());
+
+        assertThrows(CfnAccessDeniedException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
 }
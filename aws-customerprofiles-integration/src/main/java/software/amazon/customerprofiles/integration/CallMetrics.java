@@ -0,0 +1,157 @@
+package software.amazon.customerprofiles.integration;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Publishes one CloudWatch Embedded Metric Format line per Customer Profiles call.
+ *
+ * Each line carries the latency, attempts and response size of the call, with the handler and operation as dimensions,
+ * and the HTTP status and error as properties. Throttles counts the throttled attempts, RetryDelay the time spent
+ * backing off between them, and GaveUp is 1 when the call failed still throttled. Errors is 1 when the call failed; a
+ * failed call also publishes it by operation and exception class, so every error class gets a count of its own instead
+ * of only a property on the line. Lambda ships stdout to CloudWatch Logs, which extracts the metrics, so emitting needs
+ * no network call. The lines are off unless {@value #ENABLED_ENV} is set to true, since they add a stdout write to
+ * every service call.
+ */
+final class CallMetrics {
+
+    static final String ENABLED_ENV = "CUSTOMER_PROFILES_CALL_METRICS";
+    static final String NAMESPACE_ENV = "CUSTOMER_PROFILES_METRICS_NAMESPACE";
+    private static final String DEFAULT_NAMESPACE = "CustomerProfiles/ResourceProviders";
+    private static final String UNKNOWN_HANDLER = "Unknown";
+    private static final String REQUEST_SUFFIX = "Request";
+    private static final String CONTENT_LENGTH = "Content-Length";
+
+    static final CallMetrics INSTANCE = new CallMetrics(
+            Boolean.parseBoolean(System.getenv(ENABLED_ENV)),
+            Optional.ofNullable(System.getenv(NAMESPACE_ENV)).orElse(DEFAULT_NAMESPACE),
+            System.out::println);
+
+    private static final ThreadLocal<String> HANDLER = ThreadLocal.withInitial(() -> UNKNOWN_HANDLER);
+
+    private final boolean enabled;
+    private final String namespace;
+    private final Consumer<String> sink;
+
+    CallMetrics(final boolean enabled, final String namespace, final Consumer<String> sink) {
+        this.enabled = enabled;
+        this.namespace = namespace;
+        this.sink = sink;
+    }
+
+    /**
+     * Names the handler that the following calls on this thread are made for, until {@link #clearHandler()}.
+     */
+    static void setHandler(final String handler) {
+        HANDLER.set(handler);
+    }
+
+    static void clearHandler() {
+        HANDLER.remove();
+    }
+
+    void recordSuccess(final AwsRequest request,
+                       final long attempts,
+                       final long retryDelayMillis,
+                       final long startNanos,
+                       final AwsResponse response) {
+        if (!enabled) {
+            return;
+        }
+        final SdkHttpResponse httpResponse = response == null ? null : response.sdkHttpResponse();
+        // Only throttled attempts are retried, so every attempt before the successful one was throttled
+        emit(request, attempts, attempts - 1, retryDelayMillis, startNanos, httpResponse, null);
+    }
+
+    void recordFailure(final AwsRequest request,
+                       final long attempts,
+                       final long retryDelayMillis,
+                       final long startNanos,
+                       final RuntimeException failure) {
+        if (!enabled) {
+            return;
+        }
+        SdkHttpResponse httpResponse = null;
+        if (failure instanceof AwsServiceException && ((AwsServiceException) failure).awsErrorDetails() != null) {
+            httpResponse = ((AwsServiceException) failure).awsErrorDetails().sdkHttpResponse();
+        }
+        final long throttles = failure instanceof ThrottlingException ? attempts : attempts - 1;
+        emit(request, attempts, throttles, retryDelayMillis, startNanos, httpResponse,
+                failure.getClass().getSimpleName());
+    }
+
+    private void emit(final AwsRequest request,
+                      final long attempts,
+                      final long throttles,
+                      final long retryDelayMillis,
+                      final long startNanos,
+                      final SdkHttpResponse httpResponse,
+                      final String error) {
+        final double latencyMillis = (System.nanoTime() - startNanos) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        final long responseBytes = httpResponse == null ? -1 : httpResponse.firstMatchingHeader(CONTENT_LENGTH)
+                .map(CallMetrics::parseLength)
+                .orElse(-1L);
+
+        // Every value written below is a number or a Java identifier, so nothing needs escaping
+        final StringBuilder line = new StringBuilder(512)
+                .append("{\"_aws\":{\"Timestamp\":").append(System.currentTimeMillis())
+                .append(",\"CloudWatchMetrics\":[{\"Namespace\":\"").append(namespace)
+                .append("\",\"Dimensions\":[[\"Handler\",\"Operation\"],[\"Operation\"]]")
+                .append(",\"Metrics\":[{\"Name\":\"Latency\",\"Unit\":\"Milliseconds\"}")
+                .append(",{\"Name\":\"Attempts\",\"Unit\":\"Count\"}")
+                .append(",{\"Name\":\"Throttles\",\"Unit\":\"Count\"}")
+                .append(",{\"Name\":\"RetryDelay\",\"Unit\":\"Milliseconds\"}")
+                .append(",{\"Name\":\"GaveUp\",\"Unit\":\"Count\"}")
+                .append(",{\"Name\":\"Errors\",\"Unit\":\"Count\"}");
+        if (responseBytes >= 0) {
+            line.append(",{\"Name\":\"ResponseBytes\",\"Unit\":\"Bytes\"}");
+        }
+        line.append("]}");
+        if (error != null) {
+            line.append(",{\"Namespace\":\"").append(namespace)
+                    .append("\",\"Dimensions\":[[\"Operation\",\"Error\"]]")
+                    .append(",\"Metrics\":[{\"Name\":\"Errors\",\"Unit\":\"Count\"}]}");
+        }
+        line.append("]}")
+                .append(",\"Handler\":\"").append(HANDLER.get())
+                .append("\",\"Operation\":\"").append(operation(request))
+                .append("\",\"ResourceType\":\"").append(ResourceModel.TYPE_NAME)
+                .append("\",\"Latency\":").append(latencyMillis)
+                .append(",\"Attempts\":").append(attempts)
+                .append(",\"Throttles\":").append(throttles)
+                .append(",\"RetryDelay\":").append(retryDelayMillis)
+                .append(",\"GaveUp\":").append(error != null && throttles == attempts ? 1 : 0)
+                .append(",\"Errors\":").append(error != null ? 1 : 0);
+        if (responseBytes >= 0) {
+            line.append(",\"ResponseBytes\":").append(responseBytes);
+        }
+        if (httpResponse != null) {
+            line.append(",\"StatusCode\":").append(ExistenceProbeInterceptor.statusCode(httpResponse));
+        }
+        if (error != null) {
+            line.append(",\"Error\":\"").append(error).append('"');
+        }
+        sink.accept(line.append('}').toString());
+    }
+
+    static String operation(final AwsRequest request) {
+        final String name = request.getClass().getSimpleName();
+        return name.endsWith(REQUEST_SUFFIX) ? name.substring(0, name.length() - REQUEST_SUFFIX.length()) : name;
+    }
+
+    private static Long parseLength(final String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
@@ -1,12 +1,99 @@
 package software.amazon.customerprofiles.integration;
 
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
-import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClientBuilder;
 
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide registry of {@link CustomerProfilesClient}s keyed by region.
+ *
+ * Clients are thread safe and never hold caller credentials (the proxy injects those per request), so one
+ * instance per region is shared by every handler and reused across warm Lambda invocations. The region
+ * determines the partition, so it is the only key needed. {@value #ENDPOINT_ENV} points every client at another
+ * endpoint, such as a local stand-in for load tests. Every client carries {@link ExistenceProbeInterceptor},
+ * which is inert outside existence checks, and sends through the one {@link HttpTransport} client.
+ */
 public class ClientBuilder {
+
+    static final String ENDPOINT_ENV = "CUSTOMER_PROFILES_ENDPOINT";
+    private static final String DEFAULT_REGION_KEY = "default";
+    private static final URI ENDPOINT = endpoint(System.getenv(ENDPOINT_ENV));
+    private static final ClientOverrideConfiguration OVERRIDE_CONFIGURATION = ClientOverrideConfiguration.builder()
+            .addExecutionInterceptor(new ExistenceProbeInterceptor())
+            .build();
+
+    private static final ConcurrentMap<String, CustomerProfilesClient> CLIENTS = new ConcurrentHashMap<>();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong BUILD_TIME_NANOS = new AtomicLong();
+
     static CustomerProfilesClient getClient() {
-        return CustomerProfilesClient.builder()
-                .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .build();
+        return getClient(null);
+    }
+
+    /**
+     * Returns the shared client for the given region, building it on first use.
+     * @param region region of the request, or null to use the region of the Lambda environment
+     * @return shared client
+     */
+    static CustomerProfilesClient getClient(final String region) {
+        final String key = region == null ? DEFAULT_REGION_KEY : region;
+        final CustomerProfilesClient cached = CLIENTS.get(key);
+        if (cached != null) {
+            HITS.incrementAndGet();
+            return cached;
+        }
+        return CLIENTS.computeIfAbsent(key, k -> buildClient(region));
+    }
+
+    private static CustomerProfilesClient buildClient(final String region) {
+        MISSES.incrementAndGet();
+        final long start = System.nanoTime();
+        final CustomerProfilesClientBuilder builder = CustomerProfilesClient.builder()
+                .httpClient(HttpTransport.client())
+                .overrideConfiguration(OVERRIDE_CONFIGURATION);
+        if (region != null) {
+            builder.region(Region.of(region));
+        }
+        if (ENDPOINT != null) {
+            builder.endpointOverride(ENDPOINT);
+        }
+        final CustomerProfilesClient client = builder.build();
+        BUILD_TIME_NANOS.addAndGet(System.nanoTime() - start);
+        return client;
+    }
+
+    /**
+     * @return the service endpoint to use instead of the regional one, or null when the value is not an http(s) URL
+     */
+    static URI endpoint(final String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            final URI uri = new URI(value.trim());
+            return "http".equals(uri.getScheme()) || "https".equals(uri.getScheme()) ? uri : null;
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    static long getCacheHits() {
+        return HITS.get();
+    }
+
+    static long getCacheMisses() {
+        return MISSES.get();
+    }
+
+    static long getBuildTimeNanos() {
+        return BUILD_TIME_NANOS.get();
     }
 }
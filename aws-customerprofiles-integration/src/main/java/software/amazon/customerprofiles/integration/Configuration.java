@@ -2,6 +2,10 @@ package software.amazon.customerprofiles.integration;
 
 class Configuration extends BaseConfiguration {
 
+    static {
+        Bootstrap.warmUpIfEnabled();
+    }
+
     public Configuration() {
         super("aws-customerprofiles-integration.json");
     }
@@ -2,22 +2,13 @@ package software.amazon.customerprofiles.integration;
 
 import lombok.NoArgsConstructor;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
-import software.amazon.awssdk.services.customerprofiles.model.AccessDeniedException;
 import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
 import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationRequest;
 import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationResponse;
-import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
 import software.amazon.awssdk.services.customerprofiles.model.PutIntegrationRequest;
 import software.amazon.awssdk.services.customerprofiles.model.PutIntegrationResponse;
-import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -44,36 +35,56 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        CallMetrics.setHandler(getClass().getSimpleName());
+        final HandlerLogger log = HandlerLogger.of(logger);
         if (this.client == null) {
-            this.client = ClientBuilder.getClient();
+            this.client = ClientBuilder.getClient(request.getRegion());
         }
 
+        ServiceInvoker.startInvocation();
+        try {
+            return create(proxy, request, callbackContext, log);
+        } finally {
+            ServiceInvoker.endInvocation();
+            CallMetrics.clearHandler();
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> create(final AmazonWebServicesClientProxy proxy,
+                                                                 final ResourceHandlerRequest<ResourceModel> request,
+                                                                 final CallbackContext callbackContext,
+                                                                 final HandlerLogger log) {
         final ResourceModel model = request.getDesiredResourceState();
 
         // calls to GetIntegration without a URI result in a 400 so we can skip calling
         if (model.getUri() == null) {
-            return createIntegration(proxy, request, logger);
+            return createIntegration(proxy, request, log);
         }
 
+        // Always asked of the service: a stale cached answer would report a false AlreadyExists
         final GetIntegrationRequest getIntegrationRequest = GetIntegrationRequest.builder()
                 .domainName(model.getDomainName())
                 .uri(model.getUri())
                 .build();
-
-        final GetIntegrationResponse getIntegrationResponse;
-        try {
-            getIntegrationResponse = proxy.injectCredentialsAndInvokeV2(getIntegrationRequest, client::getIntegration);
-        } catch (Exception exc) {
-            // 1. BadRequestException will also handled by PutIntegration
-            // 2. ResourceNotFoundException is the exact exception we want before calling PutIntegration
-            // 3. Whatever 5xx error GetIntegration call meet, it should not affect the performance of Create Action
-            return createIntegration(proxy, request, logger);
+        final ExistenceProbe<GetIntegrationResponse> probe =
+                ExistenceProbe.probe(proxy, getIntegrationRequest, client::getIntegration);
+        if (probe.status() == ExistenceProbe.Status.UNKNOWN) {
+            // Creating without knowing could overwrite an existing resource, since PutIntegration is an upsert;
+            // throttling and 5xx errors have already been retried by ServiceInvoker
+            log.warn(() -> String.format("GetIntegration failed before create with domainName = %s, uri = %s: %s",
+                    model.getDomainName(), model.getUri(), probe.error()));
+            throw ExceptionTranslator.translate(probe.error());
+        }
+        if (probe.status() == ExistenceProbe.Status.ABSENT) {
+            return createIntegration(proxy, request, log);
         }
+        final GetIntegrationResponse getIntegrationResponse = probe.response();
 
         // If GetIntegration Call succeed
         // Return a Bad Request Exception as Integration already existed
-        final String errorMessage = String.format("Integration %s already exists with domainName = %s", getIntegrationResponse.uri(), getIntegrationResponse.domainName());
-        logger.log(errorMessage);
+        final String errorMessage = String.format("Integration %s already exists with domainName = %s",
+                getIntegrationResponse.uri(), getIntegrationResponse.domainName());
+        log.warn(() -> errorMessage);
         BadRequestException e = BadRequestException.builder()
                 .statusCode(BAD_REQUEST_ERROR_CODE)
                 .message(errorMessage)
@@ -85,13 +96,13 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
      * Creates an integration
      * @param proxy
      * @param request
-     * @param logger
+     * @param log
      * @return
      */
     private ProgressEvent<ResourceModel, CallbackContext> createIntegration(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
-            final Logger logger
+            final HandlerLogger log
     ) {
         final ResourceModel model = request.getDesiredResourceState();
 
@@ -113,8 +124,10 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
 
         final PutIntegrationResponse putIntegrationResponse;
         try {
-            putIntegrationResponse = proxy.injectCredentialsAndInvokeV2(putIntegrationRequest, client::putIntegration);
-            logger.log(String.format("Integration Created with domainName = %s", model.getDomainName()));
+            putIntegrationResponse = ServiceInvoker.invoke(proxy, putIntegrationRequest, client::putIntegration);
+            IntegrationCache.invalidate(request);
+            IntegrationPrefetch.INSTANCE.invalidate(request);
+            log.info(() -> String.format("Integration Created with domainName = %s", model.getDomainName()));
         } catch (BadRequestException e) {
             // throw CfnAlreadyExistsException if a flow with the desired flow name already exists
             if (model.getFlowDefinition() != null && model.getFlowDefinition().getFlowName() != null) {
@@ -125,16 +138,8 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
             }
 
             throw new CfnInvalidRequestException(e);
-        } catch (AccessDeniedException e) {
-            throw new CfnAccessDeniedException(e);
-        } catch (ThrottlingException e) {
-            throw new CfnThrottlingException(e);
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
         } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
+            throw ExceptionTranslator.translate(e);
         }
 
         final ResourceModel responseModel = ResourceModel.builder()
@@ -2,15 +2,8 @@ package software.amazon.customerprofiles.integration;
 
 import lombok.NoArgsConstructor;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
-import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
 import software.amazon.awssdk.services.customerprofiles.model.DeleteIntegrationRequest;
 import software.amazon.awssdk.services.customerprofiles.model.DeleteIntegrationResponse;
-import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
-import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -33,10 +26,24 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        CallMetrics.setHandler(getClass().getSimpleName());
+        final HandlerLogger log = HandlerLogger.of(logger);
         if (this.client == null) {
-            this.client = ClientBuilder.getClient();
+            this.client = ClientBuilder.getClient(request.getRegion());
         }
 
+        ServiceInvoker.startInvocation();
+        try {
+            return delete(proxy, request, log);
+        } finally {
+            ServiceInvoker.endInvocation();
+            CallMetrics.clearHandler();
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> delete(final AmazonWebServicesClientProxy proxy,
+                                                                 final ResourceHandlerRequest<ResourceModel> request,
+                                                                 final HandlerLogger log) {
         final ResourceModel model = request.getDesiredResourceState();
 
         final DeleteIntegrationRequest deleteIntegrationRequest = DeleteIntegrationRequest.builder()
@@ -46,17 +53,13 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
 
         final DeleteIntegrationResponse deleteIntegrationResponse;
         try {
-            deleteIntegrationResponse = proxy.injectCredentialsAndInvokeV2(deleteIntegrationRequest, client::deleteIntegration);
-            logger.log(String.format("Integration deleted with domainName = %s, uri = %s",
+            deleteIntegrationResponse = ServiceInvoker.invoke(proxy, deleteIntegrationRequest, client::deleteIntegration);
+            IntegrationCache.invalidate(request);
+            IntegrationPrefetch.INSTANCE.invalidate(request);
+            log.info(() -> String.format("Integration deleted with domainName = %s, uri = %s",
                     model.getDomainName(), model.getUri()));
-        } catch (BadRequestException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
         } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
+            throw ExceptionTranslator.translate(e);
         }
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
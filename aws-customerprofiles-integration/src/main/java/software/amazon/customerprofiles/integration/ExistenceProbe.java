@@ -0,0 +1,73 @@
+package software.amazon.customerprofiles.integration;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+import java.util.function.Function;
+
+/**
+ * Outcome of checking whether a resource exists: it exists (with the Get response), it is absent, or the check
+ * itself failed and the answer is unknown (with the error).
+ */
+final class ExistenceProbe<ResponseT extends AwsResponse> {
+
+    enum Status {
+        EXISTS, ABSENT, UNKNOWN
+    }
+
+    private final Status status;
+    private final ResponseT response;
+    private final Exception error;
+
+    private ExistenceProbe(final Status status, final ResponseT response, final Exception error) {
+        this.status = status;
+        this.response = response;
+        this.error = error;
+    }
+
+    static <ResponseT extends AwsResponse> ExistenceProbe<ResponseT> exists(final ResponseT response) {
+        return new ExistenceProbe<>(Status.EXISTS, response, null);
+    }
+
+    static <ResponseT extends AwsResponse> ExistenceProbe<ResponseT> absent() {
+        return new ExistenceProbe<>(Status.ABSENT, null, null);
+    }
+
+    static <ResponseT extends AwsResponse> ExistenceProbe<ResponseT> unknown(final Exception error) {
+        return new ExistenceProbe<>(Status.UNKNOWN, null, error);
+    }
+
+    /**
+     * Sends a Get call through {@link ServiceInvoker} with {@link ExistenceProbeInterceptor} active, so a missing
+     * resource comes back as an empty response rather than an exception. A ResourceNotFoundException still counts
+     * as absent for clients built without the interceptor.
+     */
+    static <RequestT extends AwsRequest, ResponseT extends AwsResponse> ExistenceProbe<ResponseT> probe(
+            final AmazonWebServicesClientProxy proxy,
+            final RequestT request,
+            final Function<RequestT, ResponseT> call) {
+        final ResponseT response;
+        try {
+            response = ExistenceProbeInterceptor.probing(() -> ServiceInvoker.invoke(proxy, request, call));
+        } catch (ResourceNotFoundException e) {
+            return absent();
+        } catch (Exception e) {
+            return unknown(e);
+        }
+        return ExistenceProbeInterceptor.isAbsent(response) ? absent() : exists(response);
+    }
+
+    Status status() {
+        return status;
+    }
+
+    ResponseT response() {
+        return response;
+    }
+
+    Exception error() {
+        return error;
+    }
+}
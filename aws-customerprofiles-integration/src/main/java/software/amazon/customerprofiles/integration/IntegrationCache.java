@@ -0,0 +1,98 @@
+package software.amazon.customerprofiles.integration;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived, size-bounded read-through cache for the GetIntegration call the handlers make to confirm an
+ * integration exists before writing it.
+ *
+ * Entries are keyed by account, region, domain and URI. Only successful responses are cached, so errors
+ * (including not found) always reach the caller, and every write to an integration invalidates its entry.
+ * CreateHandler does not use it: its existence check always goes to the service.
+ * Caching is off unless {@value #TTL_ENV} sets a TTL: UpdateHandler compares the cached response with the desired
+ * state, so an entry can hide a change or a deletion made outside CloudFormation until it expires.
+ */
+final class IntegrationCache {
+
+    static final String TTL_ENV = "CUSTOMER_PROFILES_GET_CACHE_TTL_SECONDS";
+    private static final long DEFAULT_TTL_SECONDS = 0;
+    private static final long MAX_ENTRIES = 256;
+
+    private static volatile Cache<String, GetIntegrationResponse> cache = newCache(ttlSeconds());
+
+    private IntegrationCache() {
+    }
+
+    static GetIntegrationResponse get(final AmazonWebServicesClientProxy proxy,
+                                      final CustomerProfilesClient client,
+                                      final ResourceHandlerRequest<ResourceModel> request) {
+        final String key = key(request);
+        final GetIntegrationResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final GetIntegrationResponse response =
+                ServiceInvoker.invoke(proxy, getIntegrationRequest(request), client::getIntegration);
+        if (response != null) {
+            cache.put(key, response);
+        }
+        return response;
+    }
+
+    static void invalidate(final ResourceHandlerRequest<ResourceModel> request) {
+        cache.invalidate(key(request));
+    }
+
+    static void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Replaces the cache with an empty one that keeps entries for {@code ttlSeconds}; 0 disables caching.
+     */
+    static void setTtlSeconds(final long ttlSeconds) {
+        cache = newCache(ttlSeconds);
+    }
+
+    private static GetIntegrationRequest getIntegrationRequest(final ResourceHandlerRequest<ResourceModel> request) {
+        final ResourceModel model = request.getDesiredResourceState();
+        return GetIntegrationRequest.builder()
+                .domainName(model.getDomainName())
+                .uri(model.getUri())
+                .build();
+    }
+
+    private static String key(final ResourceHandlerRequest<ResourceModel> request) {
+        final ResourceModel model = request.getDesiredResourceState();
+        return request.getAwsAccountId() + "/" + request.getRegion() + "/" + model.getDomainName()
+                + "/" + model.getUri();
+    }
+
+    private static Cache<String, GetIntegrationResponse> newCache(final long ttlSeconds) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(ttlSeconds > 0 ? MAX_ENTRIES : 0)
+                .expireAfterWrite(Math.max(ttlSeconds, 0), TimeUnit.SECONDS)
+                .build();
+    }
+
+    private static long ttlSeconds() {
+        final String ttl = System.getenv(TTL_ENV);
+        if (ttl == null) {
+            return DEFAULT_TTL_SECONDS;
+        }
+        try {
+            return Long.parseLong(ttl.trim());
+        } catch (NumberFormatException e) {
+            return DEFAULT_TTL_SECONDS;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package software.amazon.customerprofiles.integration;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationItem;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsRequest;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived, per-domain snapshot of every integration ListIntegrations returns, keyed by URI, so that the Reads
+ * CloudFormation sends one after the other for drift detection cost about one List call per page of integrations
+ * instead of one GetIntegration call each.
+ *
+ * A List item carries every attribute Read returns. The first Read of a domain lists its pages, up to
+ * {@value #MAX_PAGES} of {@value #PAGE_SIZE} integrations, so a cold Read costs at most that many List calls; later
+ * Reads of that domain are answered from the snapshot until it expires. Each listed integration answers one Read
+ * only: reading it again goes to GetIntegration, so a Read that follows a delete made in another execution
+ * environment still sees it gone. An integration missing from the snapshot, or a domain whose listing failed, is
+ * left to GetIntegration, so not found is only ever reported by the service, and a failed listing is tried again by
+ * the next Read instead of being remembered. Every write to an integration drops the snapshot of its domain.
+ *
+ * The snapshot can still be stale for an integration changed or deleted elsewhere after the listing and before its
+ * first Read, so the prefetch is off unless {@value #TTL_ENV} sets a TTL, which bounds that window.
+ */
+final class IntegrationPrefetch {
+
+    static final String TTL_ENV = "CUSTOMER_PROFILES_READ_PREFETCH_TTL_SECONDS";
+    private static final long DEFAULT_TTL_SECONDS = 0;
+    private static final long MAX_DOMAINS = 16;
+    private static final int MAX_PAGES = 5;
+    private static final int PAGE_SIZE = 100;
+
+    static final IntegrationPrefetch INSTANCE = new IntegrationPrefetch(ttlSeconds(System.getenv(TTL_ENV)));
+
+    private final boolean enabled;
+    private final Cache<String, Map<String, ListIntegrationItem>> domains;
+
+    IntegrationPrefetch(final long ttlSeconds) {
+        this.enabled = ttlSeconds > 0;
+        this.domains = CacheBuilder.newBuilder()
+                .maximumSize(enabled ? MAX_DOMAINS : 0)
+                .expireAfterWrite(Math.max(ttlSeconds, 0), TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * @return the listed integration the request reads, or null when the prefetch is disabled, the domain could not
+     * be listed, or the integration was not among the listed ones or was already read from them
+     */
+    ListIntegrationItem find(final AmazonWebServicesClientProxy proxy,
+                             final CustomerProfilesClient client,
+                             final ResourceHandlerRequest<ResourceModel> request,
+                             final HandlerLogger log) {
+        if (!enabled) {
+            return null;
+        }
+        final ResourceModel model = request.getDesiredResourceState();
+        final String key = key(request);
+        Map<String, ListIntegrationItem> integrations = domains.getIfPresent(key);
+        if (integrations == null) {
+            integrations = list(proxy, client, model.getDomainName(), log);
+            if (integrations == null) {
+                return null;
+            }
+            domains.put(key, integrations);
+        }
+        return integrations.remove(model.getUri());
+    }
+
+    void invalidate(final ResourceHandlerRequest<ResourceModel> request) {
+        domains.invalidate(key(request));
+    }
+
+    void invalidateAll() {
+        domains.invalidateAll();
+    }
+
+    /**
+     * @return the integrations on the first pages of the domain, or null when listing them failed
+     */
+    private static Map<String, ListIntegrationItem> list(final AmazonWebServicesClientProxy proxy,
+                                                         final CustomerProfilesClient client,
+                                                         final String domainName,
+                                                         final HandlerLogger log) {
+        final Map<String, ListIntegrationItem> integrations = new ConcurrentHashMap<>();
+        try {
+            String nextToken = null;
+            int pages = 0;
+            do {
+                final ListIntegrationsRequest listIntegrationsRequest = ListIntegrationsRequest.builder()
+                        .domainName(domainName)
+                        .maxResults(PAGE_SIZE)
+                        .nextToken(nextToken)
+                        .build();
+                final ListIntegrationsResponse listIntegrationsResponse =
+                        ServiceInvoker.invoke(proxy, listIntegrationsRequest, client::listIntegrations);
+                for (final ListIntegrationItem item : listIntegrationsResponse.items()) {
+                    integrations.put(item.uri(), item);
+                }
+                nextToken = listIntegrationsResponse.nextToken();
+                pages++;
+            } while (nextToken != null && pages < MAX_PAGES);
+            final int pageCount = pages;
+            log.debug(() -> String.format("Prefetched %d Integrations with domainName = %s from %d pages",
+                    integrations.size(), domainName, pageCount));
+            return integrations;
+        } catch (RuntimeException e) {
+            log.warn(() -> String.format(
+                    "Could not prefetch Integrations with domainName = %s, reading them one by one: %s",
+                    domainName, e.getMessage()));
+            return null;
+        }
+    }
+
+    private static String key(final ResourceHandlerRequest<ResourceModel> request) {
+        return request.getAwsAccountId() + "/" + request.getRegion() + "/"
+                + request.getDesiredResourceState().getDomainName();
+    }
+
+    static long ttlSeconds(final String value) {
+        if (value == null) {
+            return DEFAULT_TTL_SECONDS;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return DEFAULT_TTL_SECONDS;
+        }
+    }
+}
@@ -2,15 +2,9 @@ package software.amazon.customerprofiles.integration;
 
 import lombok.NoArgsConstructor;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
-import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
-import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationItem;
 import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsRequest;
 import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsResponse;
-import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -19,16 +13,36 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @NoArgsConstructor
 public class ListHandler extends BaseHandler<CallbackContext> {
 
+    static final String MAX_PAGES_ENV = "CUSTOMER_PROFILES_LIST_MAX_PAGES";
+    static final String TIME_BUDGET_MILLIS_ENV = "CUSTOMER_PROFILES_LIST_TIME_BUDGET_MILLIS";
+    private static final long DEFAULT_MAX_PAGES = 1;
+    private static final long DEFAULT_TIME_BUDGET_MILLIS = 30000;
+
     private CustomerProfilesClient client;
+    private long maxPages = longFromEnv(MAX_PAGES_ENV, DEFAULT_MAX_PAGES);
+    private long timeBudgetMillis = longFromEnv(TIME_BUDGET_MILLIS_ENV, DEFAULT_TIME_BUDGET_MILLIS);
 
     public ListHandler(CustomerProfilesClient client) {
         this.client = client;
     }
 
+    /**
+     * @param maxPages         how many ListIntegrations pages to read in one invocation before handing the next token
+     *                         back to CloudFormation
+     * @param timeBudgetMillis stop reading further pages once this much time has passed since the invocation started.
+     *                         The handler cannot see the Lambda remaining time, so keep this below the handler timeout.
+     */
+    public ListHandler(CustomerProfilesClient client, long maxPages, long timeBudgetMillis) {
+        this.client = client;
+        this.maxPages = maxPages;
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -36,47 +50,75 @@ public class ListHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        CallMetrics.setHandler(getClass().getSimpleName());
+        final HandlerLogger log = HandlerLogger.of(logger).sampled(HandlerLogger.LIST_SAMPLE_RATE);
         if (this.client == null) {
-            this.client = ClientBuilder.getClient();
+            this.client = ClientBuilder.getClient(request.getRegion());
+        }
+
+        ServiceInvoker.startInvocation();
+        try {
+            return list(proxy, request, log);
+        } finally {
+            ServiceInvoker.endInvocation();
+            CallMetrics.clearHandler();
         }
+    }
 
+    private ProgressEvent<ResourceModel, CallbackContext> list(final AmazonWebServicesClientProxy proxy,
+                                                               final ResourceHandlerRequest<ResourceModel> request,
+                                                               final HandlerLogger log) {
         final ResourceModel requestModel = request.getDesiredResourceState();
 
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        final List<ListIntegrationItem> items = new ArrayList<>();
+        String nextToken = request.getNextToken();
+        long pages = 0;
+        do {
+            final ListIntegrationsResponse listIntegrationsResponse =
+                    listIntegrations(proxy, requestModel, nextToken);
+            items.addAll(listIntegrationsResponse.items());
+            nextToken = listIntegrationsResponse.nextToken();
+            pages++;
+        } while (nextToken != null && pages < maxPages && System.nanoTime() - deadline < 0);
+
+        final long pageCount = pages;
+        if (pageCount > 1) {
+            log.info(() -> String.format("Listed %d Integrations with domainName = %s from %d pages",
+                    items.size(), requestModel.getDomainName(), pageCount));
+        }
+
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(Translator.translateFromListItems(items))
+                .status(OperationStatus.SUCCESS)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    private ListIntegrationsResponse listIntegrations(final AmazonWebServicesClientProxy proxy,
+                                                      final ResourceModel requestModel,
+                                                      final String nextToken) {
         final ListIntegrationsRequest listIntegrationsRequest = ListIntegrationsRequest.builder()
                 .domainName(requestModel.getDomainName())
-                .nextToken(request.getNextToken())
+                .nextToken(nextToken)
                 .build();
 
-        final ListIntegrationsResponse listIntegrationsResponse;
         try {
-            listIntegrationsResponse = proxy.injectCredentialsAndInvokeV2(listIntegrationsRequest, client::listIntegrations);
-        } catch (BadRequestException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
+            return ServiceInvoker.invoke(proxy, listIntegrationsRequest, client::listIntegrations);
         } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
+            throw ExceptionTranslator.translate(e);
         }
+    }
 
-        List<ResourceModel> responseModels = new ArrayList<>();
-        listIntegrationsResponse.items().forEach(res -> {
-            ResourceModel responseModel = ResourceModel.builder()
-                    .createdAt(res.createdAt().toString())
-                    .domainName(res.domainName())
-                    .lastUpdatedAt(res.lastUpdatedAt().toString())
-                    .objectTypeName(res.objectTypeName())
-                    .tags(Translator.mapTagsToList(res.tags()))
-                    .uri(res.uri())
-                    .build();
-            responseModels.add(responseModel);
-        });
-
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(responseModels)
-                .status(OperationStatus.SUCCESS)
-                .nextToken(listIntegrationsResponse.nextToken())
-                .build();
+    private static long longFromEnv(final String name, final long defaultValue) {
+        final String value = System.getenv(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
     }
 }
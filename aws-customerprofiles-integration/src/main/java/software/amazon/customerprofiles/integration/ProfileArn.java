@@ -0,0 +1,183 @@
+package software.amazon.customerprofiles.integration;
+
+import java.util.Objects;
+
+/**
+ * Builds the ARNs of Customer Profiles integrations and parses the ARNs of domains, object types and integrations.
+ *
+ * Building is plain concatenation onto the {@code arn:<partition>:profile:<region>:<account>:domains/} prefix. A
+ * warm handler serves one partition, region and account, so the last prefix is kept and reused for as long as
+ * they do not change, and so is the last ARN built, which the handlers of one resource ask for again and again.
+ * Parsing recovers the domain and the object type name or integration URI from an ARN.
+ */
+final class ProfileArn {
+
+    private static final String ARN = "arn";
+    private static final String SERVICE = "profile";
+    private static final String DOMAINS = "domains/";
+    private static final String OBJECT_TYPES = "/object-types/";
+    private static final String INTEGRATIONS = "/integrations/";
+    private static final int PARTS = 6;
+
+    private static volatile Prefix last = new Prefix(null, null, null, null);
+    private static volatile Resource lastResource = new Resource(null, null, null, null);
+
+    private final String partition;
+    private final String region;
+    private final String accountId;
+    private final String domainName;
+    private final String objectTypeName;
+    private final String uri;
+
+    private ProfileArn(final String partition,
+                       final String region,
+                       final String accountId,
+                       final String domainName,
+                       final String objectTypeName,
+                       final String uri) {
+        this.partition = partition;
+        this.region = region;
+        this.accountId = accountId;
+        this.domainName = domainName;
+        this.objectTypeName = objectTypeName;
+        this.uri = uri;
+    }
+
+    static String integration(final String partition,
+                              final String region,
+                              final String accountId,
+                              final String domainName,
+                              final String uri) {
+        final String prefix = prefix(partition, region, accountId);
+        final Resource cached = lastResource;
+        if (cached.matches(prefix, domainName, uri)) {
+            return cached.value;
+        }
+        final Resource built = new Resource(prefix, domainName, uri,
+                prefix + domainName + INTEGRATIONS + uri);
+        lastResource = built;
+        return built.value;
+    }
+
+    /**
+     * @return everything in front of the domain name, shared with the previous call when nothing changed
+     */
+    static String prefix(final String partition, final String region, final String accountId) {
+        final Prefix cached = last;
+        if (cached.matches(partition, region, accountId)) {
+            return cached.value;
+        }
+        final Prefix built = new Prefix(partition, region, accountId,
+                ARN + ":" + partition + ":" + SERVICE + ":" + region + ":" + accountId + ":" + DOMAINS);
+        last = built;
+        return built.value;
+    }
+
+    /**
+     * @throws IllegalArgumentException when {@code arn} is not the ARN of a domain, object type or integration
+     */
+    static ProfileArn parse(final String arn) {
+        final String[] parts = arn == null ? new String[0] : arn.split(":", PARTS);
+        if (parts.length != PARTS || !ARN.equals(parts[0]) || !SERVICE.equals(parts[2])
+                || !parts[5].startsWith(DOMAINS)) {
+            throw new IllegalArgumentException("Not a Customer Profiles ARN: " + arn);
+        }
+        final String resource = parts[5].substring(DOMAINS.length());
+        final int slash = resource.indexOf('/');
+        final String domainName = slash < 0 ? resource : resource.substring(0, slash);
+        if (domainName.isEmpty()) {
+            throw new IllegalArgumentException("No domain in ARN: " + arn);
+        }
+        if (slash < 0) {
+            return new ProfileArn(parts[1], parts[3], parts[4], domainName, null, null);
+        }
+        final String child = resource.substring(slash);
+        if (child.startsWith(OBJECT_TYPES) && child.length() > OBJECT_TYPES.length()) {
+            return new ProfileArn(parts[1], parts[3], parts[4], domainName,
+                    child.substring(OBJECT_TYPES.length()), null);
+        }
+        if (child.startsWith(INTEGRATIONS) && child.length() > INTEGRATIONS.length()) {
+            return new ProfileArn(parts[1], parts[3], parts[4], domainName,
+                    null, child.substring(INTEGRATIONS.length()));
+        }
+        throw new IllegalArgumentException("Unknown resource in ARN: " + arn);
+    }
+
+    String getPartition() {
+        return partition;
+    }
+
+    String getRegion() {
+        return region;
+    }
+
+    String getAccountId() {
+        return accountId;
+    }
+
+    String getDomainName() {
+        return domainName;
+    }
+
+    /**
+     * @return the object type name, or null when the ARN is not an object type's
+     */
+    String getObjectTypeName() {
+        return objectTypeName;
+    }
+
+    /**
+     * @return the integration URI, or null when the ARN is not an integration's
+     */
+    String getUri() {
+        return uri;
+    }
+
+    private static final class Prefix {
+
+        private final String partition;
+        private final String region;
+        private final String accountId;
+        private final String value;
+
+        private Prefix(final String partition, final String region, final String accountId, final String value) {
+            this.partition = partition;
+            this.region = region;
+            this.accountId = accountId;
+            this.value = value;
+        }
+
+        private boolean matches(final String partition, final String region, final String accountId) {
+            return value != null
+                    && Objects.equals(this.partition, partition)
+                    && Objects.equals(this.region, region)
+                    && Objects.equals(this.accountId, accountId);
+        }
+    }
+
+    private static final class Resource {
+
+        private final String prefix;
+        private final String domainName;
+        private final String name;
+        private final String value;
+
+        private Resource(final String prefix, final String domainName, final String name, final String value) {
+            this.prefix = prefix;
+            this.domainName = domainName;
+            this.name = name;
+            this.value = value;
+        }
+
+        /**
+         * @param prefix a value returned by {@link ProfileArn#prefix}, compared by identity since equal prefixes
+         *               are shared
+         */
+        private boolean matches(final String prefix, final String domainName, final String name) {
+            return value != null
+                    && this.prefix == prefix
+                    && Objects.equals(this.domainName, domainName)
+                    && Objects.equals(this.name, name);
+        }
+    }
+}
@@ -2,15 +2,9 @@ package software.amazon.customerprofiles.integration;
 
 import lombok.NoArgsConstructor;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
-import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
 import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationRequest;
 import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationResponse;
-import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
-import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationItem;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -20,11 +14,17 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 public class ReadHandler extends BaseHandler<CallbackContext> {
 
     private CustomerProfilesClient client;
+    private IntegrationPrefetch prefetch = IntegrationPrefetch.INSTANCE;
 
     public ReadHandler(CustomerProfilesClient client) {
         this.client = client;
     }
 
+    ReadHandler(CustomerProfilesClient client, IntegrationPrefetch prefetch) {
+        this.client = client;
+        this.prefetch = prefetch;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -32,12 +32,31 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        CallMetrics.setHandler(getClass().getSimpleName());
+        final HandlerLogger log = HandlerLogger.of(logger);
         if (this.client == null) {
-            this.client = ClientBuilder.getClient();
+            this.client = ClientBuilder.getClient(request.getRegion());
         }
 
+        ServiceInvoker.startInvocation();
+        try {
+            return read(proxy, request, log);
+        } finally {
+            ServiceInvoker.endInvocation();
+            CallMetrics.clearHandler();
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> read(final AmazonWebServicesClientProxy proxy,
+                                                               final ResourceHandlerRequest<ResourceModel> request,
+                                                               final HandlerLogger log) {
         final ResourceModel requestModel = request.getDesiredResourceState();
 
+        final ListIntegrationItem listed = prefetch.find(proxy, client, request, log);
+        if (listed != null) {
+            return ProgressEvent.defaultSuccessHandler(Translator.translateFromListItem(listed));
+        }
+
         final GetIntegrationRequest getIntegrationRequest = GetIntegrationRequest.builder()
                 .domainName(requestModel.getDomainName())
                 .uri(requestModel.getUri())
@@ -45,17 +64,11 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
 
         final GetIntegrationResponse getIntegrationResponse;
         try {
-            getIntegrationResponse = proxy.injectCredentialsAndInvokeV2(getIntegrationRequest, client::getIntegration);
-            logger.log(String.format("Get Integration with domainName = %s, uri = %s",
+            getIntegrationResponse = ServiceInvoker.invoke(proxy, getIntegrationRequest, client::getIntegration);
+            log.info(() -> String.format("Get Integration with domainName = %s, uri = %s",
                     requestModel.getDomainName(), requestModel.getUri()));
-        } catch (BadRequestException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
         } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
+            throw ExceptionTranslator.translate(e);
         }
 
         final ResourceModel responseModel = ResourceModel.builder()
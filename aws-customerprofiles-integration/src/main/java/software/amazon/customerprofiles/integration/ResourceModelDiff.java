@@ -0,0 +1,55 @@
+package software.amazon.customerprofiles.integration;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compares the previous and desired state of an integration so updates only write what actually changed.
+ *
+ * Read-only properties (CreatedAt, LastUpdatedAt) are ignored. FlowDefinition is compared field by field, with
+ * its Tasks compared regardless of their order in the template. Tags are left to {@link TagHelper}, because the
+ * resource tags on the request also carry stack-level tags.
+ */
+final class ResourceModelDiff {
+
+    private ResourceModelDiff() {
+    }
+
+    /**
+     * @return names of the writable properties whose value differs, empty when nothing changed
+     */
+    static Set<String> changedProperties(final ResourceModel previous, final ResourceModel desired) {
+        final Set<String> changed = new LinkedHashSet<>();
+        if (!Objects.equals(previous.getObjectTypeName(), desired.getObjectTypeName())) {
+            changed.add("ObjectTypeName");
+        }
+        if (!sameFlowDefinition(previous.getFlowDefinition(), desired.getFlowDefinition())) {
+            changed.add("FlowDefinition");
+        }
+        return changed;
+    }
+
+    private static boolean sameFlowDefinition(final FlowDefinition previous, final FlowDefinition desired) {
+        if (previous == null || desired == null) {
+            return previous == desired;
+        }
+        return Objects.equals(previous.getFlowName(), desired.getFlowName())
+                && Objects.equals(previous.getDescription(), desired.getDescription())
+                && Objects.equals(previous.getKmsArn(), desired.getKmsArn())
+                && Objects.equals(previous.getTriggerConfig(), desired.getTriggerConfig())
+                && Objects.equals(previous.getSourceFlowConfig(), desired.getSourceFlowConfig())
+                && countTasks(previous.getTasks()).equals(countTasks(desired.getTasks()));
+    }
+
+    private static Map<Task, Integer> countTasks(final List<Task> tasks) {
+        final Map<Task, Integer> counts = new HashMap<>();
+        if (tasks != null) {
+            tasks.forEach(task -> counts.merge(task, 1, Integer::sum));
+        }
+        return counts;
+    }
+}
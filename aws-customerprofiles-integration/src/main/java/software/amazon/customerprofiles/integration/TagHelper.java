@@ -0,0 +1,86 @@
+package software.amazon.customerprofiles.integration;
+
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.TagResourceRequest;
+import software.amazon.awssdk.services.customerprofiles.model.UntagResourceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Works out the smallest set of tag changes between the previous and desired resource tags and applies them.
+ */
+final class TagHelper {
+
+    private TagHelper() {
+    }
+
+    /**
+     * @return tags that are new or whose value changed
+     */
+    static Map<String, String> tagsToAdd(final Map<String, String> previous, final Map<String, String> desired) {
+        final Map<String, String> previousTags = nullToEmpty(previous);
+        final Map<String, String> toAdd = new HashMap<>();
+        nullToEmpty(desired).forEach((key, value) -> {
+            if (!Objects.equals(previousTags.get(key), value)) {
+                toAdd.put(key, value);
+            }
+        });
+        return toAdd;
+    }
+
+    /**
+     * @return keys that are no longer wanted
+     */
+    static Set<String> tagsToRemove(final Map<String, String> previous, final Map<String, String> desired) {
+        final Set<String> toRemove = new HashSet<>(nullToEmpty(previous).keySet());
+        toRemove.removeAll(nullToEmpty(desired).keySet());
+        return toRemove;
+    }
+
+    /**
+     * Applies the full delta with TagResource and UntagResource, skipping whichever call has nothing to do.
+     */
+    static void updateTags(final AmazonWebServicesClientProxy proxy,
+                           final CustomerProfilesClient client,
+                           final String resourceArn,
+                           final Map<String, String> previous,
+                           final Map<String, String> desired) {
+        final Map<String, String> toAdd = tagsToAdd(previous, desired);
+        if (!toAdd.isEmpty()) {
+            final TagResourceRequest tagResourceRequest = TagResourceRequest.builder()
+                    .resourceArn(resourceArn)
+                    .tags(toAdd)
+                    .build();
+            ServiceInvoker.invoke(proxy, tagResourceRequest, client::tagResource);
+        }
+        removeTags(proxy, client, resourceArn, previous, desired);
+    }
+
+    /**
+     * Removes only the keys that are no longer wanted. Used after a write that already carried the desired tags.
+     */
+    static void removeTags(final AmazonWebServicesClientProxy proxy,
+                           final CustomerProfilesClient client,
+                           final String resourceArn,
+                           final Map<String, String> previous,
+                           final Map<String, String> desired) {
+        final Set<String> toRemove = tagsToRemove(previous, desired);
+        if (!toRemove.isEmpty()) {
+            final UntagResourceRequest untagResourceRequest = UntagResourceRequest.builder()
+                    .resourceArn(resourceArn)
+                    .tagKeys(toRemove)
+                    .build();
+            ServiceInvoker.invoke(proxy, untagResourceRequest, client::untagResource);
+        }
+    }
+
+    private static Map<String, String> nullToEmpty(final Map<String, String> tags) {
+        return tags == null ? Collections.emptyMap() : tags;
+    }
+}
@@ -3,11 +3,16 @@ package software.amazon.customerprofiles.integration;
 import com.amazonaws.util.StringUtils;
 import com.google.common.collect.ImmutableMap;
 import software.amazon.awssdk.services.customerprofiles.model.FlowDefinition;
+import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationItem;
+import software.amazon.awssdk.services.customerprofiles.model.PutIntegrationRequest;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
 import software.amazon.customerprofiles.integration.translators.ConnectorTranslator;
 import software.amazon.customerprofiles.integration.translators.MarketoTranslator;
 import software.amazon.customerprofiles.integration.translators.S3Translator;
@@ -19,10 +24,8 @@ import static software.amazon.customerprofiles.integration.translators.TriggerCo
 
 public class Translator {
 
-    static String ARN_FORMAT = "arn:%s:profile:%s:%s:domains/%s/integrations/%s";
-
     static String toIntegrationArn(final ResourceHandlerRequest<ResourceModel> request) {
-        return String.format(ARN_FORMAT, request.getAwsPartition(), request.getRegion(), request.getAwsAccountId(),
+        return ProfileArn.integration(request.getAwsPartition(), request.getRegion(), request.getAwsAccountId(),
                 request.getDesiredResourceState().getDomainName(), request.getDesiredResourceState().getUri());
     }
 
@@ -30,11 +33,48 @@ public class Translator {
         if (tags == null || tags.isEmpty()) {
             return null;
         }
-        return tags.entrySet().stream()
-                .map(t -> Tag.builder()
-                        .key(t.getKey())
-                        .value(t.getValue()).build())
-                .collect(Collectors.toList());
+        final List<Tag> tagList = new ArrayList<>(tags.size());
+        tags.forEach((key, value) -> tagList.add(Tag.builder()
+                .key(key)
+                .value(value).build()));
+        return tagList;
+    }
+
+    /**
+     * Converts the listed integrations to resource models once, into a list sized for the page. The handler response is
+     * read more than once on its way out, so a lazy view would convert every item again on each pass.
+     */
+    static List<ResourceModel> translateFromListItems(final List<ListIntegrationItem> items) {
+        final List<ResourceModel> models = new ArrayList<>(items.size());
+        for (final ListIntegrationItem item : items) {
+            models.add(translateFromListItem(item));
+        }
+        return models;
+    }
+
+    static ResourceModel translateFromListItem(final ListIntegrationItem item) {
+        return ResourceModel.builder()
+                .createdAt(item.createdAt().toString())
+                .domainName(item.domainName())
+                .lastUpdatedAt(item.lastUpdatedAt().toString())
+                .objectTypeName(item.objectTypeName())
+                .tags(mapTagsToList(item.tags()))
+                .uri(item.uri())
+                .build();
+    }
+
+    /**
+     * Whether an existing integration already has everything the Put request would write, tags included.
+     * Missing and empty tag maps are treated alike, because the service omits empty ones from its responses.
+     * The FlowDefinition is not part of the response, so callers have to check it did not change themselves.
+     */
+    static boolean isUpToDate(PutIntegrationRequest putRequest, GetIntegrationResponse current) {
+        return Objects.equals(putRequest.objectTypeName(), current.objectTypeName())
+                && Objects.equals(nullToEmpty(putRequest.tags()), nullToEmpty(current.tags()));
+    }
+
+    private static Map<String, String> nullToEmpty(Map<String, String> tags) {
+        return tags == null ? Collections.emptyMap() : tags;
     }
 
     private static Map<String, ConnectorTranslator> connectorTranslators = ImmutableMap.<String, ConnectorTranslator>builder()
@@ -1,37 +1,35 @@
 package software.amazon.customerprofiles.integration;
 
-import com.google.common.collect.Lists;
 import lombok.NoArgsConstructor;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
-import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
-import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationRequest;
-import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
+import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationResponse;
 import software.amazon.awssdk.services.customerprofiles.model.PutIntegrationRequest;
 import software.amazon.awssdk.services.customerprofiles.model.PutIntegrationResponse;
-import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.customerprofiles.model.UntagResourceRequest;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+
+import static software.amazon.customerprofiles.integration.Translator.buildServiceFlowDefinition;
 
 @NoArgsConstructor
 public class UpdateHandler extends BaseHandler<CallbackContext> {
 
     private CustomerProfilesClient client;
+    private IntegrationPrefetch prefetch = IntegrationPrefetch.INSTANCE;
 
     public UpdateHandler(CustomerProfilesClient client) {
         this.client = client;
     }
 
+    UpdateHandler(CustomerProfilesClient client, IntegrationPrefetch prefetch) {
+        this.client = client;
+        this.prefetch = prefetch;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -39,48 +37,47 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        CallMetrics.setHandler(getClass().getSimpleName());
+        final HandlerLogger log = HandlerLogger.of(logger);
         if (this.client == null) {
-            this.client = ClientBuilder.getClient();
+            this.client = ClientBuilder.getClient(request.getRegion());
         }
 
-        final ResourceModel requestModel = request.getDesiredResourceState();
-
-        final GetIntegrationRequest getIntegrationRequest = GetIntegrationRequest.builder()
-                .domainName(requestModel.getDomainName())
-                .uri(requestModel.getUri())
-                .build();
-
-        // If this integration is never created, can not be updated
+        ServiceInvoker.startInvocation();
         try {
-            proxy.injectCredentialsAndInvokeV2(getIntegrationRequest, client::getIntegration);
-            logger.log(String.format("Get Integration with domainName = %s, uri = %s",
-                    requestModel.getDomainName(), requestModel.getUri()));
-        } catch (BadRequestException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
-        } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
+            return update(proxy, request, log);
+        } finally {
+            ServiceInvoker.endInvocation();
+            CallMetrics.clearHandler();
         }
+    }
 
-        final List<Tag> previousTags = request.getPreviousResourceTags() == null ? Lists.newArrayList() :
-                Translator.mapTagsToList(request.getPreviousResourceTags());
-
-        if (previousTags != null) {
-            final List<String> tagsToRemove = previousTags.stream()
-                    .map(Tag::getKey)
-                    .collect(Collectors.toList());
-
-            // Remove previous tags
-            if (tagsToRemove.size() > 0) {
-                final UntagResourceRequest untagResourceRequest = UntagResourceRequest.builder()
-                        .resourceArn(Translator.toIntegrationArn(request))
-                        .tagKeys(tagsToRemove)
-                        .build();
-                proxy.injectCredentialsAndInvokeV2(untagResourceRequest, client::untagResource);
+    private ProgressEvent<ResourceModel, CallbackContext> update(final AmazonWebServicesClientProxy proxy,
+                                                                 final ResourceHandlerRequest<ResourceModel> request,
+                                                                 final HandlerLogger log) {
+        final ResourceModel requestModel = request.getDesiredResourceState();
+        final Set<String> changedProperties = request.getPreviousResourceState() == null
+                ? null
+                : ResourceModelDiff.changedProperties(request.getPreviousResourceState(), requestModel);
+
+        // When only tags can have changed, apply the tag delta without rewriting the resource
+        if (changedProperties != null && changedProperties.isEmpty()) {
+            try {
+                TagHelper.updateTags(proxy, client, Translator.toIntegrationArn(request),
+                        request.getPreviousResourceTags(), request.getDesiredResourceTags());
+            } catch (Exception e) {
+                throw ExceptionTranslator.translate(e);
+            } finally {
+                // The cached Get response and the listed snapshot carry the old tags, even if only part of the
+                // delta was applied
+                IntegrationCache.invalidate(request);
+                prefetch.invalidate(request);
             }
+            log.info(() -> String.format("Integration with domainName = %s, uri = %s has no changes other than tags",
+                    requestModel.getDomainName(), requestModel.getUri()));
+            requestModel.setCreatedAt(request.getPreviousResourceState().getCreatedAt());
+            requestModel.setLastUpdatedAt(request.getPreviousResourceState().getLastUpdatedAt());
+            return ProgressEvent.defaultSuccessHandler(requestModel);
         }
 
         final Map<String, String> resourceTag;
@@ -97,21 +94,50 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
                 .objectTypeName(requestModel.getObjectTypeName())
                 .uri(requestModel.getUri())
                 .tags(resourceTag)
+                .flowDefinition(buildServiceFlowDefinition(requestModel.getFlowDefinition()))
                 .build();
 
+        // If this integration is never created, can not be updated
+        final GetIntegrationResponse getIntegrationResponse;
+        try {
+            getIntegrationResponse = IntegrationCache.get(proxy, client, request);
+            log.info(() -> String.format("Get Integration with domainName = %s, uri = %s",
+                    requestModel.getDomainName(), requestModel.getUri()));
+        } catch (Exception e) {
+            throw ExceptionTranslator.translate(e);
+        }
+
+        // Nothing to write if the integration already matches the desired state. GetIntegration does not return
+        // the FlowDefinition, so it only counts as unchanged when the previous template had the same one
+        final boolean sameFlowDefinition = changedProperties == null
+                ? requestModel.getFlowDefinition() == null
+                : !changedProperties.contains("FlowDefinition");
+        if (sameFlowDefinition && Translator.isUpToDate(putIntegrationRequest, getIntegrationResponse)) {
+            log.info(() -> String.format("Integration with domainName = %s, uri = %s is up to date",
+                    requestModel.getDomainName(), requestModel.getUri()));
+            return ProgressEvent.defaultSuccessHandler(toResourceModel(getIntegrationResponse));
+        }
+
         final PutIntegrationResponse putIntegrationResponse;
         try {
-            putIntegrationResponse = proxy.injectCredentialsAndInvokeV2(putIntegrationRequest, client::putIntegration);
-            logger.log(String.format("Update Integration with domainName = %s, uri = %s",
+            putIntegrationResponse = ServiceInvoker.invoke(proxy, putIntegrationRequest, client::putIntegration);
+            IntegrationCache.invalidate(request);
+            prefetch.invalidate(request);
+            log.info(() -> String.format("Update Integration with domainName = %s, uri = %s",
                     requestModel.getDomainName(), requestModel.getUri()));
-        } catch (BadRequestException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
         } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
+            throw ExceptionTranslator.translate(e);
+        }
+
+        // The write above already carried the desired tags, so only keys that are no longer wanted need removing
+        try {
+            TagHelper.removeTags(proxy, client, Translator.toIntegrationArn(request),
+                    request.getPreviousResourceTags(), request.getDesiredResourceTags());
+        } catch (Exception e) {
+            throw ExceptionTranslator.translate(e);
+        } finally {
+            IntegrationCache.invalidate(request);
+            prefetch.invalidate(request);
         }
 
         final ResourceModel responseModel = ResourceModel.builder()
@@ -125,4 +151,15 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
 
         return ProgressEvent.defaultSuccessHandler(responseModel);
     }
+
+    private static ResourceModel toResourceModel(final GetIntegrationResponse getIntegrationResponse) {
+        return ResourceModel.builder()
+                .createdAt(getIntegrationResponse.createdAt().toString())
+                .domainName(getIntegrationResponse.domainName())
+                .lastUpdatedAt(getIntegrationResponse.lastUpdatedAt().toString())
+                .objectTypeName(getIntegrationResponse.objectTypeName())
+                .tags(Translator.mapTagsToList(getIntegrationResponse.tags()))
+                .uri(getIntegrationResponse.uri())
+                .build();
+    }
 }
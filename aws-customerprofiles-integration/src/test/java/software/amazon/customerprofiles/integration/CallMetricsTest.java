@@ -0,0 +1,157 @@
+package software.amazon.customerprofiles.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsRequest;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+
+public class CallMetricsTest {
+
+    private static final String NAMESPACE = "Test/Namespace";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<String> lines;
+    private CallMetrics metrics;
+
+    @BeforeEach
+    public void setup() {
+        lines = new ArrayList<>();
+        metrics = new CallMetrics(true, NAMESPACE, lines::add);
+        CallMetrics.setHandler("ReadHandler");
+    }
+
+    @Test
+    public void recordSuccess_writesEmbeddedMetricLine() throws IOException {
+        final ListIntegrationsResponse.Builder builder = ListIntegrationsResponse.builder();
+        builder.sdkHttpResponse(SdkHttpResponse.builder()
+                .statusCode(200)
+                .putHeader("Content-Length", "123")
+                .build());
+
+        metrics.recordSuccess(ListIntegrationsRequest.builder().build(), 1, 0, System.nanoTime(), builder.build());
+
+        assertThat(lines).hasSize(1);
+        final JsonNode line = objectMapper.readTree(lines.get(0));
+        final JsonNode directive = line.get("_aws").get("CloudWatchMetrics").get(0);
+        assertThat(directive.get("Namespace").asText()).isEqualTo(NAMESPACE);
+        assertThat(directive.get("Dimensions").get(0).get(0).asText()).isEqualTo("Handler");
+        assertThat(directive.get("Metrics")).hasSize(7);
+        assertThat(line.get("_aws").get("CloudWatchMetrics")).hasSize(1);
+        assertThat(line.get("_aws").get("Timestamp").asLong()).isPositive();
+        assertThat(line.get("Handler").asText()).isEqualTo("ReadHandler");
+        assertThat(line.get("Operation").asText()).isEqualTo("ListIntegrations");
+        assertThat(line.get("Latency").asDouble()).isGreaterThanOrEqualTo(0);
+        assertThat(line.get("Attempts").asLong()).isEqualTo(1);
+        assertThat(line.get("Throttles").asLong()).isEqualTo(0);
+        assertThat(line.get("RetryDelay").asLong()).isEqualTo(0);
+        assertThat(line.get("GaveUp").asInt()).isEqualTo(0);
+        assertThat(line.get("Errors").asInt()).isEqualTo(0);
+        assertThat(line.get("ResponseBytes").asLong()).isEqualTo(123);
+        assertThat(line.get("StatusCode").asInt()).isEqualTo(200);
+        assertThat(line.has("Error")).isFalse();
+    }
+
+    @Test
+    public void recordSuccess_probeAbsent_writesNotFoundStatus() throws IOException {
+        final GetIntegrationResponse.Builder builder = GetIntegrationResponse.builder();
+        builder.sdkHttpResponse(SdkHttpResponse.builder()
+                .statusCode(200)
+                .putHeader(ExistenceProbeInterceptor.ABSENT_HEADER, "true")
+                .build());
+
+        metrics.recordSuccess(GetIntegrationRequest.builder().build(), 1, 0, System.nanoTime(), builder.build());
+
+        final JsonNode line = objectMapper.readTree(lines.get(0));
+        assertThat(line.get("StatusCode").asInt()).isEqualTo(404);
+        assertThat(line.has("Error")).isFalse();
+    }
+
+    @Test
+    public void recordFailure_writesStatusAndError() throws IOException {
+        final ThrottlingException throttling = ThrottlingException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .sdkHttpResponse(SdkHttpResponse.builder().statusCode(429).build())
+                        .build())
+                .build();
+
+        metrics.recordFailure(GetIntegrationRequest.builder().build(), 5, 1200, System.nanoTime(), throttling);
+
+        final JsonNode line = objectMapper.readTree(lines.get(0));
+        assertThat(line.get("_aws").get("CloudWatchMetrics").get(0).get("Metrics")).hasSize(6);
+        final JsonNode errors = line.get("_aws").get("CloudWatchMetrics").get(1);
+        assertThat(errors.get("Dimensions").get(0).get(1).asText()).isEqualTo("Error");
+        assertThat(errors.get("Metrics").get(0).get("Name").asText()).isEqualTo("Errors");
+        assertThat(line.get("Errors").asInt()).isEqualTo(1);
+        assertThat(line.get("Operation").asText()).isEqualTo("GetIntegration");
+        assertThat(line.get("Attempts").asLong()).isEqualTo(5);
+        assertThat(line.get("Throttles").asLong()).isEqualTo(5);
+        assertThat(line.get("RetryDelay").asLong()).isEqualTo(1200);
+        assertThat(line.get("GaveUp").asInt()).isEqualTo(1);
+        assertThat(line.get("StatusCode").asInt()).isEqualTo(429);
+        assertThat(line.get("Error").asText()).isEqualTo("ThrottlingException");
+        assertThat(line.has("ResponseBytes")).isFalse();
+    }
+
+    @Test
+    public void clearHandler_laterCallsUnattributed() throws IOException {
+        CallMetrics.clearHandler();
+
+        metrics.recordSuccess(ListIntegrationsRequest.builder().build(), 1, 0, System.nanoTime(), null);
+
+        assertThat(objectMapper.readTree(lines.get(0)).get("Handler").asText()).isEqualTo("Unknown");
+    }
+
+    @Test
+    public void record_disabled_writesNothing() {
+        final CallMetrics disabled = new CallMetrics(false, NAMESPACE, lines::add);
+
+        disabled.recordSuccess(ListIntegrationsRequest.builder().build(), 1, 0, System.nanoTime(), null);
+        disabled.recordFailure(ListIntegrationsRequest.builder().build(), 1, 0, System.nanoTime(),
+                new IllegalStateException());
+
+        assertThat(lines).isEmpty();
+    }
+
+    @Test
+    public void serviceInvoker_retriedCall_recordedOnce() throws IOException {
+        final AmazonWebServicesClientProxy proxy = Mockito.mock(AmazonWebServicesClientProxy.class);
+        final CustomerProfilesClient customerProfilesClient = Mockito.mock(CustomerProfilesClient.class);
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenThrow(ThrottlingException.builder().build())
+                .thenThrow(ThrottlingException.builder().build())
+                .thenThrow(ThrottlingException.builder().build());
+        final ServiceInvoker invoker = new ServiceInvoker(3, 0, 0, 60000,
+                new ServiceInvoker.TokenBucket(ServiceInvoker.RETRY_QUOTA), millis -> { }, metrics);
+
+        final ListIntegrationsRequest listRequest = ListIntegrationsRequest.builder().build();
+
+        assertThrows(ThrottlingException.class,
+                () -> invoker.call(proxy, listRequest, customerProfilesClient::listIntegrations));
+
+        assertThat(lines).hasSize(1);
+        final JsonNode line = objectMapper.readTree(lines.get(0));
+        assertThat(line.get("Attempts").asLong()).isEqualTo(3);
+        assertThat(line.get("Throttles").asLong()).isEqualTo(3);
+        assertThat(line.get("GaveUp").asInt()).isEqualTo(1);
+        assertThat(line.get("Error").asText()).isEqualTo("ThrottlingException");
+        assertThat(line.has("StatusCode")).isFalse();
+    }
+}
@@ -39,6 +39,8 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static software.amazon.customerprofiles.integration.translators.TestUtils.getValidFlowDefinition;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +59,7 @@ public class CreateHandlerTest {
 
     @BeforeEach
     public void setup() {
+        IntegrationCache.setTtlSeconds(0);
         proxy = Mockito.mock(AmazonWebServicesClientProxy.class);
         customerProfilesClient = Mockito.mock(CustomerProfilesClient.class);
         logger = Mockito.mock(Logger.class);
@@ -80,8 +83,8 @@ public class CreateHandlerTest {
                 .uri("arn:aws:flow:us-east-1:123456789012:URIOfIntegration1")
                 .build();
 
-        Mockito.doThrow(new RuntimeException()).when(proxy).injectCredentialsAndInvokeV2(
-                any(GetIntegrationRequest.class), any());
+        Mockito.doThrow(ResourceNotFoundException.builder().message("ResourceNotFoundException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
 
         Mockito.doReturn(result).when(proxy).injectCredentialsAndInvokeV2(
                 any(PutIntegrationRequest.class), any());
@@ -141,6 +144,7 @@ public class CreateHandlerTest {
         assertThat(response.getCallbackContext()).isNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel().getDomainName()).isEqualTo(request.getDesiredResourceState().getDomainName());
+        assertThat(response.getResourceModel().getUri()).isEqualTo("arn:aws:flow:us-east-1:123456789012:URIOfIntegration1");
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
@@ -159,8 +163,8 @@ public class CreateHandlerTest {
                 .tags(DESIRED_TAGS)
                 .build();
 
-        Mockito.doThrow(new RuntimeException()).when(proxy).injectCredentialsAndInvokeV2(
-                any(GetIntegrationRequest.class), any());
+        Mockito.doThrow(ResourceNotFoundException.builder().message("ResourceNotFoundException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
 
         Mockito.doReturn(result).when(proxy).injectCredentialsAndInvokeV2(
                 any(PutIntegrationRequest.class), any());
@@ -195,8 +199,8 @@ public class CreateHandlerTest {
                 .uri("arn:aws:flow:us-east-1:123456789012:URIOfIntegration1")
                 .build();
 
-        Mockito.doThrow(new RuntimeException()).when(proxy).injectCredentialsAndInvokeV2(
-                any(GetIntegrationRequest.class), any());
+        Mockito.doThrow(ResourceNotFoundException.builder().message("ResourceNotFoundException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
 
         Mockito.doReturn(result).when(proxy).injectCredentialsAndInvokeV2(
                 any(PutIntegrationRequest.class), any());
@@ -228,8 +232,8 @@ public class CreateHandlerTest {
                 .message("BadRequestException")
                 .build();
 
-        Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
-                any(GetIntegrationRequest.class), any());
+        Mockito.doThrow(ResourceNotFoundException.builder().message("ResourceNotFoundException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
 
         Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
                 any(PutIntegrationRequest.class), any());
@@ -249,8 +253,8 @@ public class CreateHandlerTest {
                 .message("ResourceNotFoundException")
                 .build();
 
-        Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
-                any(GetIntegrationRequest.class), any());
+        Mockito.doThrow(ResourceNotFoundException.builder().message("ResourceNotFoundException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
 
         Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
                 any(PutIntegrationRequest.class), any());
@@ -270,8 +274,8 @@ public class CreateHandlerTest {
                 .message("InternalServerException")
                 .build();
 
-        Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
-                any(GetIntegrationRequest.class), any());
+        Mockito.doThrow(ResourceNotFoundException.builder().message("ResourceNotFoundException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
 
         Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
                 any(PutIntegrationRequest.class), any());
@@ -289,8 +293,8 @@ public class CreateHandlerTest {
 
         ThrottlingException exc = ThrottlingException.builder().build();
 
-        Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
-                any(GetIntegrationRequest.class), any());
+        Mockito.doThrow(ResourceNotFoundException.builder().message("ResourceNotFoundException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
 
         Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
                 any(PutIntegrationRequest.class), any());
@@ -308,8 +312,8 @@ public class CreateHandlerTest {
 
         AccessDeniedException exc = AccessDeniedException.builder().build();
 
-        Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
-                any(GetIntegrationRequest.class), any());
+        Mockito.doThrow(ResourceNotFoundException.builder().message("ResourceNotFoundException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
 
         Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
                 any(PutIntegrationRequest.class), any());
@@ -327,8 +331,8 @@ public class CreateHandlerTest {
 
         RuntimeException exc = new RuntimeException();
 
-        Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
-                any(GetIntegrationRequest.class), any());
+        Mockito.doThrow(ResourceNotFoundException.builder().message("ResourceNotFoundException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
 
         Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
                 any(PutIntegrationRequest.class), any());
@@ -340,6 +344,25 @@ public class CreateHandlerTest {
         assertThrows(CfnGeneralServiceException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
 
+    @Test
+    public void handleRequest_GetIntegration_InternalServerException_notCreated() {
+        final CreateHandler handler = new CreateHandler(customerProfilesClient);
+
+        InternalServerException exc = InternalServerException.builder()
+                .message("InternalServerException")
+                .build();
+
+        Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetIntegrationRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThrows(CfnServiceInternalErrorException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(PutIntegrationRequest.class), any());
+    }
+
     @Test
     public void handleRequest_integrationAlreadyExisted() {
         final CreateHandler handler = new CreateHandler(customerProfilesClient);
@@ -362,6 +385,41 @@ public class CreateHandlerTest {
         assertThrows(CfnAlreadyExistsException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
 
+    @Test
+    public void handleRequest_cachedAsExisting_checkedWithService() {
+        IntegrationCache.setTtlSeconds(5);
+        final CreateHandler handler = new CreateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .desiredResourceState(model)
+                .build();
+
+        final PutIntegrationResponse result = PutIntegrationResponse.builder()
+                .createdAt(TIME)
+                .domainName("testDomainName")
+                .lastUpdatedAt(TIME)
+                .objectTypeName("testObjectTypeName")
+                .uri("arn:aws:flow:us-east-1:123456789012:URIOfIntegration1")
+                .build();
+
+        // An earlier update cached the integration, which has been deleted since
+        Mockito.doReturn(GetIntegrationResponse.builder().uri(model.getUri()).build())
+                .doThrow(ResourceNotFoundException.builder().message("ResourceNotFoundException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
+        IntegrationCache.get(proxy, customerProfilesClient, request);
+
+        Mockito.doReturn(result).when(proxy).injectCredentialsAndInvokeV2(
+                any(PutIntegrationRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getUri()).isEqualTo(model.getUri());
+    }
+
     // test for if a flow with the desired flow name already exists (originates as an AppFlow 409 -> Locke 400)
     @Test
     public void handleRequest_withFlowDefinition_FlowAlreadyExists() {
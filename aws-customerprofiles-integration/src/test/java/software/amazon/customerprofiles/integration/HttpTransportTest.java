@@ -0,0 +1,48 @@
+package software.amazon.customerprofiles.integration;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpTransportTest {
+
+    @Test
+    public void kind_named_parsed() {
+        assertThat(HttpTransport.kind("apache")).isEqualTo(HttpTransport.Kind.APACHE);
+        assertThat(HttpTransport.kind(" UrlConnection ")).isEqualTo(HttpTransport.Kind.URLCONNECTION);
+        assertThat(HttpTransport.kind("lambda")).isEqualTo(HttpTransport.Kind.LAMBDA);
+    }
+
+    @Test
+    public void kind_missingOrUnknown_lambda() {
+        assertThat(HttpTransport.kind(null)).isEqualTo(HttpTransport.Kind.LAMBDA);
+        assertThat(HttpTransport.kind("crt")).isEqualTo(HttpTransport.Kind.LAMBDA);
+    }
+
+    @Test
+    public void longValue_invalidOrNotPositive_default() {
+        assertThat(HttpTransport.longValue(" 32 ", 16)).isEqualTo(32);
+        assertThat(HttpTransport.longValue(null, 16)).isEqualTo(16);
+        assertThat(HttpTransport.longValue("many", 16)).isEqualTo(16);
+        assertThat(HttpTransport.longValue("0", 16)).isEqualTo(16);
+    }
+
+    @Test
+    public void create_eachKind() {
+        assertThat(HttpTransport.create(HttpTransport.Kind.LAMBDA)).isSameAs(LambdaWrapper.HTTP_CLIENT);
+        try (SdkHttpClient apache = HttpTransport.create(HttpTransport.Kind.APACHE);
+             SdkHttpClient urlConnection = HttpTransport.create(HttpTransport.Kind.URLCONNECTION)) {
+            assertThat(apache).isInstanceOf(ApacheHttpClient.class);
+            assertThat(urlConnection).isInstanceOf(UrlConnectionHttpClient.class);
+        }
+    }
+
+    @Test
+    public void client_default_lambda() {
+        assertThat(HttpTransport.client()).isSameAs(LambdaWrapper.HTTP_CLIENT);
+    }
+}
@@ -0,0 +1,101 @@
+package software.amazon.customerprofiles.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class IntegrationCacheTest {
+
+    private static final String DOMAIN_NAME = "testDomainName";
+    private static final String URI = "arn:aws:flow:us-east-1:123456789012:URIOfIntegration1";
+
+    private AmazonWebServicesClientProxy proxy;
+    private CustomerProfilesClient customerProfilesClient;
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    @BeforeEach
+    public void setup() {
+        IntegrationCache.setTtlSeconds(5);
+        proxy = Mockito.mock(AmazonWebServicesClientProxy.class);
+        customerProfilesClient = Mockito.mock(CustomerProfilesClient.class);
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .desiredResourceState(ResourceModel.builder()
+                        .domainName(DOMAIN_NAME)
+                        .uri(URI)
+                        .build())
+                .build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        IntegrationCache.setTtlSeconds(0);
+    }
+
+    @Test
+    public void get_repeatedLookup_servedFromCache() {
+        final GetIntegrationResponse getIntegrationResponse = GetIntegrationResponse.builder()
+                .uri(URI)
+                .build();
+        Mockito.doReturn(getIntegrationResponse).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetIntegrationRequest.class), any());
+
+        final GetIntegrationResponse first = IntegrationCache.get(proxy, customerProfilesClient, request);
+        final GetIntegrationResponse second = IntegrationCache.get(proxy, customerProfilesClient, request);
+
+        assertThat(first).isSameAs(getIntegrationResponse);
+        assertThat(second).isSameAs(getIntegrationResponse);
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
+    }
+
+    @Test
+    public void get_afterInvalidate_callsService() {
+        Mockito.doReturn(GetIntegrationResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetIntegrationRequest.class), any());
+
+        IntegrationCache.get(proxy, customerProfilesClient, request);
+        IntegrationCache.invalidate(request);
+        IntegrationCache.get(proxy, customerProfilesClient, request);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
+    }
+
+    @Test
+    public void get_serviceError_notCached() {
+        Mockito.doThrow(ResourceNotFoundException.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetIntegrationRequest.class), any());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> IntegrationCache.get(proxy, customerProfilesClient, request));
+        assertThrows(ResourceNotFoundException.class,
+                () -> IntegrationCache.get(proxy, customerProfilesClient, request));
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
+    }
+
+    @Test
+    public void get_noTtl_alwaysCallsService() {
+        IntegrationCache.setTtlSeconds(0);
+        Mockito.doReturn(GetIntegrationResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetIntegrationRequest.class), any());
+
+        IntegrationCache.get(proxy, customerProfilesClient, request);
+        IntegrationCache.get(proxy, customerProfilesClient, request);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
+    }
+}
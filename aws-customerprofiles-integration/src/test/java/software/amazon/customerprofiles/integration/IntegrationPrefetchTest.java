@@ -0,0 +1,161 @@
+package software.amazon.customerprofiles.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationItem;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsRequest;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Instant;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class IntegrationPrefetchTest {
+
+    private static final Instant TIME = Instant.now();
+    private static final String DOMAIN_NAME = "testDomainName";
+    private static final String URI_PREFIX = "arn:aws:flow:us-east-1:123456789012:URIOfIntegration";
+
+    private AmazonWebServicesClientProxy proxy;
+    private CustomerProfilesClient customerProfilesClient;
+    private HandlerLogger log;
+    private IntegrationPrefetch prefetch;
+
+    @BeforeEach
+    public void setup() {
+        proxy = Mockito.mock(AmazonWebServicesClientProxy.class);
+        customerProfilesClient = Mockito.mock(CustomerProfilesClient.class);
+        log = HandlerLogger.of(Mockito.mock(Logger.class));
+        prefetch = new IntegrationPrefetch(60);
+    }
+
+    @Test
+    public void find_allPagesListedOnce() {
+        Mockito.doReturn(page("page2", item(1), item(2)), page(null, item(3)))
+                .when(proxy).injectCredentialsAndInvokeV2(any(ListIntegrationsRequest.class), any());
+
+        assertThat(prefetch.find(proxy, customerProfilesClient, request(1), log).uri()).isEqualTo(URI_PREFIX + "1");
+        assertThat(prefetch.find(proxy, customerProfilesClient, request(3), log).uri()).isEqualTo(URI_PREFIX + "3");
+        assertThat(prefetch.find(proxy, customerProfilesClient, request(2), log).objectTypeName())
+                .isEqualTo("testObjectTypeName2");
+
+        final ArgumentCaptor<ListIntegrationsRequest> requests = ArgumentCaptor.forClass(ListIntegrationsRequest.class);
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(requests.capture(), any());
+        assertThat(requests.getAllValues().get(0).nextToken()).isNull();
+        assertThat(requests.getAllValues().get(1).nextToken()).isEqualTo("page2");
+        assertThat(requests.getAllValues()).allMatch(listed -> DOMAIN_NAME.equals(listed.domainName()));
+    }
+
+    @Test
+    public void find_notListed_returnsNull() {
+        Mockito.doReturn(page(null, item(1)))
+                .when(proxy).injectCredentialsAndInvokeV2(any(ListIntegrationsRequest.class), any());
+
+        assertThat(prefetch.find(proxy, customerProfilesClient, request(2), log)).isNull();
+        assertThat(prefetch.find(proxy, customerProfilesClient, request(3), log)).isNull();
+
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(ListIntegrationsRequest.class), any());
+    }
+
+    @Test
+    public void find_listFails_notRemembered() {
+        Mockito.doThrow(BadRequestException.builder().message("AccessDenied").build())
+                .doReturn(page(null, item(2)))
+                .when(proxy).injectCredentialsAndInvokeV2(any(ListIntegrationsRequest.class), any());
+
+        assertThat(prefetch.find(proxy, customerProfilesClient, request(1), log)).isNull();
+        assertThat(prefetch.find(proxy, customerProfilesClient, request(2), log).uri()).isEqualTo(URI_PREFIX + "2");
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(ListIntegrationsRequest.class), any());
+    }
+
+    @Test
+    public void find_alreadyRead_returnsNull() {
+        Mockito.doReturn(page(null, item(1)))
+                .when(proxy).injectCredentialsAndInvokeV2(any(ListIntegrationsRequest.class), any());
+
+        assertThat(prefetch.find(proxy, customerProfilesClient, request(1), log)).isNotNull();
+        assertThat(prefetch.find(proxy, customerProfilesClient, request(1), log)).isNull();
+
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(ListIntegrationsRequest.class), any());
+    }
+
+    @Test
+    public void find_manyPages_listsAtMostMaxPages() {
+        Mockito.doReturn(page("more", item(1)))
+                .when(proxy).injectCredentialsAndInvokeV2(any(ListIntegrationsRequest.class), any());
+
+        assertThat(prefetch.find(proxy, customerProfilesClient, request(2), log)).isNull();
+
+        verify(proxy, times(5)).injectCredentialsAndInvokeV2(any(ListIntegrationsRequest.class), any());
+    }
+
+    @Test
+    public void find_afterInvalidate_listsAgain() {
+        Mockito.doReturn(page(null, item(1)))
+                .when(proxy).injectCredentialsAndInvokeV2(any(ListIntegrationsRequest.class), any());
+
+        prefetch.find(proxy, customerProfilesClient, request(1), log);
+        prefetch.invalidate(request(2));
+        prefetch.find(proxy, customerProfilesClient, request(1), log);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(ListIntegrationsRequest.class), any());
+    }
+
+    @Test
+    public void find_disabled_noCalls() {
+        final IntegrationPrefetch disabled = new IntegrationPrefetch(0);
+
+        assertThat(disabled.find(proxy, customerProfilesClient, request(1), log)).isNull();
+
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(ListIntegrationsRequest.class), any());
+    }
+
+    @Test
+    public void ttlSeconds_parsed() {
+        assertThat(IntegrationPrefetch.ttlSeconds(" 30 ")).isEqualTo(30);
+        assertThat(IntegrationPrefetch.ttlSeconds(null)).isEqualTo(0);
+        assertThat(IntegrationPrefetch.ttlSeconds("soon")).isEqualTo(0);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final int integration) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .desiredResourceState(ResourceModel.builder()
+                        .domainName(DOMAIN_NAME)
+                        .uri(URI_PREFIX + integration)
+                        .build())
+                .build();
+    }
+
+    private static ListIntegrationItem item(final int integration) {
+        return ListIntegrationItem.builder()
+                .createdAt(TIME)
+                .domainName(DOMAIN_NAME)
+                .lastUpdatedAt(TIME)
+                .objectTypeName("testObjectTypeName" + integration)
+                .tags(Collections.singletonMap("key", "value"))
+                .uri(URI_PREFIX + integration)
+                .build();
+    }
+
+    private static ListIntegrationsResponse page(final String nextToken, final ListIntegrationItem... items) {
+        return ListIntegrationsResponse.builder()
+                .items(items)
+                .nextToken(nextToken)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package software.amazon.customerprofiles.integration;
 
 import com.google.common.collect.Lists;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
@@ -8,13 +9,14 @@ import software.amazon.awssdk.services.customerprofiles.model.BadRequestExceptio
 import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationRequest;
 import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
 import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationItem;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsRequest;
 import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsResponse;
 import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -31,11 +33,14 @@ import java.time.Instant;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest {
     private static final Instant TIME = Instant.now();
+    private static final String URI_PREFIX = "arn:aws:flow:us-east-1:123456789012:URIOfIntegration";
 
     private static ResourceModel model;
 
@@ -67,7 +72,7 @@ public class ListHandlerTest {
                 .domainName("testDomainName")
                 .lastUpdatedAt(TIME)
                 .objectTypeName("testObjectTypeName1")
-                .uri("arn:aws:flow:us-east-1:123456789012:URIOfIntegration1")
+                .uri(URI_PREFIX + "1")
                 .build();
 
         ListIntegrationItem item2 = ListIntegrationItem.builder()
@@ -75,7 +80,7 @@ public class ListHandlerTest {
                 .domainName("testDomainName")
                 .lastUpdatedAt(TIME)
                 .objectTypeName("testObjectTypeName2")
-                .uri("arn:aws:flow:us-east-1:123456789012:URIOfIntegration2")
+                .uri(URI_PREFIX + "2")
                 .build();
 
         ListIntegrationsResponse result = ListIntegrationsResponse.builder()
@@ -155,7 +160,7 @@ public class ListHandlerTest {
     }
 
     @Test
-    public void handleRequest_otherException() {
+    public void handleRequest_ThrottlingException() {
         final ListHandler handler = new ListHandler(customerProfilesClient);
 
         ThrottlingException exc = ThrottlingException.builder()
@@ -168,6 +173,87 @@ public class ListHandlerTest {
                 .desiredResourceState(model)
                 .build();
 
-        assertThrows(CfnGeneralServiceException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        assertThrows(CfnThrottlingException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    @Test
+    public void handleRequest_multiplePages_drainsAllPages() {
+        final ListHandler handler = new ListHandler(customerProfilesClient, 10, 60000);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenReturn(page(URI_PREFIX + "1", "token1"),
+                        page(URI_PREFIX + "2", "token2"),
+                        page(URI_PREFIX + "3", null));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(3);
+        assertThat(response.getResourceModels().get(2).getUri()).isEqualTo(URI_PREFIX + "3");
+        assertThat(response.getNextToken()).isNull();
+
+        final ArgumentCaptor<ListIntegrationsRequest> captor = ArgumentCaptor.forClass(ListIntegrationsRequest.class);
+        verify(proxy, times(3)).injectCredentialsAndInvokeV2(captor.capture(), any());
+        assertThat(captor.getAllValues().get(0).nextToken()).isNull();
+        assertThat(captor.getAllValues().get(1).nextToken()).isEqualTo("token1");
+        assertThat(captor.getAllValues().get(2).nextToken()).isEqualTo("token2");
+    }
+
+    @Test
+    public void handleRequest_maxPagesReached_returnsNextToken() {
+        final ListHandler handler = new ListHandler(customerProfilesClient, 2, 60000);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .nextToken("token0")
+                .build();
+
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenReturn(page(URI_PREFIX + "1", "token1"),
+                        page(URI_PREFIX + "2", "token2"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getNextToken()).isEqualTo("token2");
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void handleRequest_timeBudgetExhausted_returnsNextToken() {
+        final ListHandler handler = new ListHandler(customerProfilesClient, 10, 0);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenReturn(page(URI_PREFIX + "1", "token1"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getNextToken()).isEqualTo("token1");
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    private static ListIntegrationsResponse page(final String name, final String nextToken) {
+        return ListIntegrationsResponse.builder()
+                .items(Lists.newArrayList(ListIntegrationItem.builder()
+                        .createdAt(TIME)
+                        .domainName("testDomainName")
+                        .lastUpdatedAt(TIME)
+                        .objectTypeName("testObjectTypeName")
+                        .uri(name)
+                        .build()))
+                .nextToken(nextToken)
+                .build();
     }
 }
@@ -0,0 +1,101 @@
+package software.amazon.customerprofiles.integration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ProfileArnTest {
+
+    private static final String PARTITION = "aws";
+    private static final String REGION = "us-east-1";
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String DOMAIN_NAME = "testDomainName";
+    private static final String URI = "arn:aws:flow:us-east-1:123456789012:URIOfIntegration1";
+
+    @Test
+    public void build_matchesFormat() {
+        assertThat(ProfileArn.integration(PARTITION, REGION, ACCOUNT_ID, DOMAIN_NAME, URI))
+                .isEqualTo(String.format("arn:%s:profile:%s:%s:domains/%s/integrations/%s", PARTITION, REGION,
+                        ACCOUNT_ID, DOMAIN_NAME, URI));
+    }
+
+    @Test
+    public void prefix_sameAccount_reused() {
+        final String first = ProfileArn.prefix(PARTITION, REGION, ACCOUNT_ID);
+
+        assertThat(ProfileArn.prefix(PARTITION, REGION, ACCOUNT_ID)).isSameAs(first);
+        assertThat(ProfileArn.prefix(PARTITION, "us-west-2", ACCOUNT_ID))
+                .isEqualTo("arn:aws:profile:us-west-2:123456789012:domains/");
+    }
+
+    @Test
+    public void build_sameResource_reused() {
+        final String first = ProfileArn.integration(PARTITION, REGION, ACCOUNT_ID, DOMAIN_NAME, URI);
+
+        assertThat(ProfileArn.integration(PARTITION, REGION, ACCOUNT_ID, DOMAIN_NAME, URI)).isSameAs(first);
+        assertThat(ProfileArn.integration(PARTITION, "us-west-2", ACCOUNT_ID, DOMAIN_NAME, URI))
+                .startsWith("arn:aws:profile:us-west-2:123456789012:domains/");
+    }
+
+    @Test
+    public void parse_domain() {
+        final ProfileArn arn = ProfileArn.parse("arn:aws:profile:us-east-1:123456789012:domains/testDomainName");
+
+        assertThat(arn.getPartition()).isEqualTo(PARTITION);
+        assertThat(arn.getRegion()).isEqualTo(REGION);
+        assertThat(arn.getAccountId()).isEqualTo(ACCOUNT_ID);
+        assertThat(arn.getDomainName()).isEqualTo(DOMAIN_NAME);
+        assertThat(arn.getObjectTypeName()).isNull();
+        assertThat(arn.getUri()).isNull();
+    }
+
+    @Test
+    public void parse_objectType() {
+        final ProfileArn arn = ProfileArn.parse(
+                "arn:aws:profile:us-east-1:123456789012:domains/testDomainName/object-types/testObjectType");
+
+        assertThat(arn.getDomainName()).isEqualTo(DOMAIN_NAME);
+        assertThat(arn.getObjectTypeName()).isEqualTo("testObjectType");
+        assertThat(arn.getUri()).isNull();
+    }
+
+    @Test
+    public void parse_integrationUriWithSeparators() {
+        final ProfileArn arn = ProfileArn.parse(
+                "arn:aws:profile:us-east-1:123456789012:domains/testDomainName/integrations/" + URI + "/flow");
+
+        assertThat(arn.getDomainName()).isEqualTo(DOMAIN_NAME);
+        assertThat(arn.getObjectTypeName()).isNull();
+        assertThat(arn.getUri()).isEqualTo(URI + "/flow");
+    }
+
+    @Test
+    public void parse_builtArn_roundTrips() {
+        final ProfileArn arn = ProfileArn.parse(
+                ProfileArn.integration(PARTITION, REGION, ACCOUNT_ID, DOMAIN_NAME, URI));
+
+        assertThat(arn.getDomainName()).isEqualTo(DOMAIN_NAME);
+    }
+
+    @Test
+    public void parse_malformed_throws() {
+        assertThrows(IllegalArgumentException.class, () -> ProfileArn.parse(null));
+        assertThrows(IllegalArgumentException.class, () -> ProfileArn.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> ProfileArn.parse(URI));
+        assertThrows(IllegalArgumentException.class,
+                () -> ProfileArn.parse("arn:aws:profile:us-east-1:123456789012"));
+        assertThrows(IllegalArgumentException.class,
+                () -> ProfileArn.parse("arn:aws:s3:us-east-1:123456789012:domains/d"));
+        assertThrows(IllegalArgumentException.class,
+                () -> ProfileArn.parse("arn:aws:profile:us-east-1:123456789012:profiles/d"));
+        assertThrows(IllegalArgumentException.class,
+                () -> ProfileArn.parse("arn:aws:profile:us-east-1:123456789012:domains/"));
+        assertThrows(IllegalArgumentException.class,
+                () -> ProfileArn.parse("arn:aws:profile:us-east-1:123456789012:domains/d/profiles/p"));
+        assertThrows(IllegalArgumentException.class,
+                () -> ProfileArn.parse("arn:aws:profile:us-east-1:123456789012:domains/d/object-types/"));
+        assertThrows(IllegalArgumentException.class,
+                () -> ProfileArn.parse("arn:aws:profile:us-east-1:123456789012:domains/d/integrations/"));
+    }
+}
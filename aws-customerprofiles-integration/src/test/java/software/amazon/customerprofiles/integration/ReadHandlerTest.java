@@ -6,12 +6,17 @@ import software.amazon.awssdk.services.customerprofiles.model.BadRequestExceptio
 import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationRequest;
 import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationResponse;
 import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationItem;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsRequest;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsResponse;
 import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.customerprofiles.model.TagResourceRequest;
+import software.amazon.awssdk.services.customerprofiles.model.TagResourceResponse;
 import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -24,10 +29,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ReadHandlerTest {
@@ -87,6 +96,101 @@ public class ReadHandlerTest {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_prefetched_servedWithoutGet() {
+        final ReadHandler handler = new ReadHandler(customerProfilesClient, new IntegrationPrefetch(60));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ListIntegrationsResponse result = ListIntegrationsResponse.builder()
+                .items(ListIntegrationItem.builder()
+                        .createdAt(TIME)
+                        .domainName("testDomainName")
+                        .lastUpdatedAt(TIME)
+                        .objectTypeName("testObjectTypeName")
+                        .uri("arn:aws:flow:us-east-1:123456789012:URIOfIntegration1")
+                        .build())
+                .build();
+
+        Mockito.doReturn(result).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListIntegrationsRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getObjectTypeName()).isEqualTo("testObjectTypeName");
+        assertThat(response.getResourceModel().getCreatedAt()).isEqualTo(TIME.toString());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_notPrefetched_readWithGet() {
+        final ReadHandler handler = new ReadHandler(customerProfilesClient, new IntegrationPrefetch(60));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.doReturn(ListIntegrationsResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListIntegrationsRequest.class), any());
+        Mockito.doThrow(ResourceNotFoundException.builder().message("ResourceNotFoundException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
+
+        assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    @Test
+    public void handleRequest_readAgainAfterDeleteElsewhere_readWithGet() {
+        final ReadHandler handler = new ReadHandler(customerProfilesClient, new IntegrationPrefetch(60));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.doReturn(listed("value")).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListIntegrationsRequest.class), any());
+        Mockito.doThrow(ResourceNotFoundException.builder().message("ResourceNotFoundException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
+
+        assertThat(handler.handleRequest(proxy, request, null, logger).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThrows(CfnNotFoundException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(ListIntegrationsRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_afterTagsOnlyUpdate_listedAgain() {
+        final IntegrationPrefetch prefetch = new IntegrationPrefetch(60);
+        final ReadHandler handler = new ReadHandler(customerProfilesClient, prefetch);
+        final UpdateHandler updateHandler = new UpdateHandler(customerProfilesClient, prefetch);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> updateRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(model)
+                .desiredResourceState(model)
+                .previousResourceTags(Collections.singletonMap("key", "old"))
+                .desiredResourceTags(Collections.singletonMap("key", "new"))
+                .build();
+
+        Mockito.doReturn(listed("old"), listed("new")).when(proxy).injectCredentialsAndInvokeV2(
+                any(ListIntegrationsRequest.class), any());
+        Mockito.doReturn(TagResourceResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(TagResourceRequest.class), any());
+
+        assertThat(handler.handleRequest(proxy, request, null, logger).getResourceModel().getTags().get(0).getValue())
+                .isEqualTo("old");
+        updateHandler.handleRequest(proxy, updateRequest, null, logger);
+        assertThat(handler.handleRequest(proxy, request, null, logger).getResourceModel().getTags().get(0).getValue())
+                .isEqualTo("new");
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(ListIntegrationsRequest.class), any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
+    }
+
     @Test
     public void handleRequest_InternalServerException() {
         final ReadHandler handler = new ReadHandler(customerProfilesClient);
@@ -142,7 +246,7 @@ public class ReadHandlerTest {
     }
 
     @Test
-    public void handleRequest_otherException() {
+    public void handleRequest_ThrottlingException() {
         final ReadHandler handler = new ReadHandler(customerProfilesClient);
 
         ThrottlingException exc = ThrottlingException.builder()
@@ -156,6 +260,19 @@ public class ReadHandlerTest {
                 .desiredResourceState(model)
                 .build();
 
-        assertThrows(CfnGeneralServiceException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        assertThrows(CfnThrottlingException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    private static ListIntegrationsResponse listed(final String tagValue) {
+        return ListIntegrationsResponse.builder()
+                .items(ListIntegrationItem.builder()
+                        .createdAt(TIME)
+                        .domainName("testDomainName")
+                        .lastUpdatedAt(TIME)
+                        .objectTypeName("testObjectTypeName")
+                        .tags(Collections.singletonMap("key", tagValue))
+                        .uri("arn:aws:flow:us-east-1:123456789012:URIOfIntegration1")
+                        .build())
+                .build();
     }
 }
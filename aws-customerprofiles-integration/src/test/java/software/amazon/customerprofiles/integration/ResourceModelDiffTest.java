@@ -0,0 +1,73 @@
+package software.amazon.customerprofiles.integration;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.customerprofiles.integration.translators.TestUtils.getValidFlowDefinition;
+
+public class ResourceModelDiffTest {
+
+    private static final String DOMAIN_NAME = "testDomainName";
+    private static final String URI = "arn:aws:flow:us-east-1:123456789012:URIOfIntegration1";
+
+    @Test
+    public void changedProperties_sameModel() {
+        assertThat(ResourceModelDiff.changedProperties(model("objectType"), model("objectType"))).isEmpty();
+    }
+
+    @Test
+    public void changedProperties_readOnlyPropertiesIgnored() {
+        final ResourceModel previous = model("objectType");
+        previous.setCreatedAt("2021-01-01T00:00:00Z");
+        previous.setLastUpdatedAt("2021-01-01T00:00:00Z");
+
+        assertThat(ResourceModelDiff.changedProperties(previous, model("objectType"))).isEmpty();
+    }
+
+    @Test
+    public void changedProperties_objectTypeName() {
+        assertThat(ResourceModelDiff.changedProperties(model("objectType"), model("otherObjectType")))
+                .containsExactly("ObjectTypeName");
+    }
+
+    @Test
+    public void changedProperties_taskOrderIgnored() {
+        final ResourceModel previous = model("objectType");
+        final List<Task> tasks = new ArrayList<>(previous.getFlowDefinition().getTasks());
+        tasks.add(Task.builder().taskType("Map_all").sourceFields(Collections.emptyList()).build());
+        previous.getFlowDefinition().setTasks(tasks);
+
+        final ResourceModel desired = model("objectType");
+        final List<Task> reversed = new ArrayList<>(tasks);
+        Collections.reverse(reversed);
+        desired.getFlowDefinition().setTasks(reversed);
+
+        assertThat(ResourceModelDiff.changedProperties(previous, desired)).isEmpty();
+    }
+
+    @Test
+    public void changedProperties_flowDefinition() {
+        final ResourceModel desired = model("objectType");
+        desired.getFlowDefinition().setDescription("new description");
+
+        assertThat(ResourceModelDiff.changedProperties(model("objectType"), desired))
+                .containsExactly("FlowDefinition");
+
+        desired.setFlowDefinition(null);
+        assertThat(ResourceModelDiff.changedProperties(model("objectType"), desired))
+                .containsExactly("FlowDefinition");
+    }
+
+    private static ResourceModel model(final String objectTypeName) {
+        return ResourceModel.builder()
+                .domainName(DOMAIN_NAME)
+                .uri(URI)
+                .objectTypeName(objectTypeName)
+                .flowDefinition(getValidFlowDefinition("Salesforce"))
+                .build();
+    }
+}
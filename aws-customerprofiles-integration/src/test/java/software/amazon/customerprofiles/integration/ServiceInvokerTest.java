@@ -0,0 +1,181 @@
+package software.amazon.customerprofiles.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsRequest;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ServiceInvokerTest {
+
+    private static final long BASE_DELAY_MILLIS = 10;
+    private static final long MAX_DELAY_MILLIS = 50;
+
+    private AmazonWebServicesClientProxy proxy;
+    private CustomerProfilesClient customerProfilesClient;
+    private List<Long> sleeps;
+    private ServiceInvoker.TokenBucket retryQuota;
+    private ListIntegrationsRequest request;
+
+    @BeforeEach
+    public void setup() {
+        proxy = Mockito.mock(AmazonWebServicesClientProxy.class);
+        customerProfilesClient = Mockito.mock(CustomerProfilesClient.class);
+        sleeps = new ArrayList<>();
+        retryQuota = new ServiceInvoker.TokenBucket(ServiceInvoker.RETRY_QUOTA);
+        request = ListIntegrationsRequest.builder().build();
+    }
+
+    @Test
+    public void call_success_noRetry() {
+        final ListIntegrationsResponse response = ListIntegrationsResponse.builder().build();
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any())).thenReturn(response);
+
+        assertThat(invoker(5, 60000).call(proxy, request, customerProfilesClient::listIntegrations)).isSameAs(response);
+
+        assertThat(sleeps).isEmpty();
+        assertThat(retryQuota.available()).isEqualTo(ServiceInvoker.RETRY_QUOTA);
+    }
+
+    @Test
+    public void call_throttledThenSuccess_retriesWithJitteredDelay() {
+        final ListIntegrationsResponse response = ListIntegrationsResponse.builder().build();
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenThrow(throttling())
+                .thenThrow(throttling())
+                .thenReturn(response);
+
+        assertThat(invoker(5, 60000).call(proxy, request, customerProfilesClient::listIntegrations)).isSameAs(response);
+
+        verify(proxy, times(3)).injectCredentialsAndInvokeV2(any(), any());
+        assertThat(sleeps).hasSize(2);
+        assertThat(sleeps).allMatch(delay -> delay >= BASE_DELAY_MILLIS && delay <= MAX_DELAY_MILLIS);
+        assertThat(retryQuota.available())
+                .isEqualTo(ServiceInvoker.RETRY_QUOTA - ServiceInvoker.RETRY_COST);
+    }
+
+    @Test
+    public void call_alwaysThrottled_givesUpAfterMaxAttempts() {
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any())).thenThrow(throttling());
+
+        assertThrows(ThrottlingException.class,
+                () -> invoker(4, 60000).call(proxy, request, customerProfilesClient::listIntegrations));
+
+        verify(proxy, times(4)).injectCredentialsAndInvokeV2(any(), any());
+        assertThat(sleeps).hasSize(3);
+        assertThat(sleeps).allMatch(delay -> delay >= BASE_DELAY_MILLIS && delay <= MAX_DELAY_MILLIS);
+    }
+
+    @Test
+    public void call_otherException_notRetried() {
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenThrow(BadRequestException.builder().build());
+
+        assertThrows(BadRequestException.class,
+                () -> invoker(5, 60000).call(proxy, request, customerProfilesClient::listIntegrations));
+
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(), any());
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void call_timeBudgetExhausted_notRetried() {
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any())).thenThrow(throttling());
+
+        assertThrows(ThrottlingException.class,
+                () -> invoker(5, 0).call(proxy, request, customerProfilesClient::listIntegrations));
+
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(), any());
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void call_retryQuotaEmpty_notRetried() {
+        retryQuota.tryAcquire(ServiceInvoker.RETRY_QUOTA);
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any())).thenThrow(throttling());
+
+        assertThrows(ThrottlingException.class,
+                () -> invoker(5, 60000).call(proxy, request, customerProfilesClient::listIntegrations));
+
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(), any());
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void call_interrupted_stopsRetrying() {
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any())).thenThrow(throttling());
+        final ServiceInvoker invoker = new ServiceInvoker(5, BASE_DELAY_MILLIS, MAX_DELAY_MILLIS, 60000, retryQuota,
+                millis -> {
+                    throw new InterruptedException();
+                });
+
+        assertThrows(ThrottlingException.class,
+                () -> invoker.call(proxy, request, customerProfilesClient::listIntegrations));
+
+        assertThat(Thread.interrupted()).isTrue();
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void tokenBucket_releaseCappedAtCapacity() {
+        final ServiceInvoker.TokenBucket bucket = new ServiceInvoker.TokenBucket(10);
+
+        assertThat(bucket.tryAcquire(8)).isTrue();
+        assertThat(bucket.tryAcquire(5)).isFalse();
+        bucket.release(100);
+
+        assertThat(bucket.available()).isEqualTo(10);
+    }
+
+    @Test
+    public void call_invocationBudgetExhausted_notRetried() {
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any())).thenThrow(throttling());
+
+        ServiceInvoker.startInvocation(0);
+        try {
+            assertThrows(ThrottlingException.class,
+                    () -> invoker(5, 60000).call(proxy, request, customerProfilesClient::listIntegrations));
+        } finally {
+            ServiceInvoker.endInvocation();
+        }
+
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(), any());
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void call_afterInvocationEnds_ownBudget() {
+        final ListIntegrationsResponse response = ListIntegrationsResponse.builder().build();
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenThrow(throttling())
+                .thenReturn(response);
+
+        ServiceInvoker.startInvocation(0);
+        ServiceInvoker.endInvocation();
+
+        assertThat(invoker(5, 60000).call(proxy, request, customerProfilesClient::listIntegrations)).isSameAs(response);
+        assertThat(sleeps).hasSize(1);
+    }
+
+    private ServiceInvoker invoker(final long maxAttempts, final long timeBudgetMillis) {
+        return new ServiceInvoker(maxAttempts, BASE_DELAY_MILLIS, MAX_DELAY_MILLIS, timeBudgetMillis, retryQuota,
+                sleeps::add);
+    }
+
+    private static ThrottlingException throttling() {
+        return ThrottlingException.builder().message("ThrottlingException").build();
+    }
+}
@@ -1,9 +1,17 @@
 package software.amazon.customerprofiles.integration;
 
+import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.customerprofiles.model.FlowDefinition;
+import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationItem;
+import software.amazon.awssdk.services.customerprofiles.model.PutIntegrationRequest;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -44,4 +52,54 @@ public class TranslatorTest {
         assertNotNull(flowDefinition.tasks());
         assertNotNull(flowDefinition.triggerConfig());
     }
+
+    @Test
+    public void testIsUpToDate() {
+        PutIntegrationRequest putRequest = PutIntegrationRequest.builder()
+                .objectTypeName("objectType")
+                .build();
+
+        assertThat(Translator.isUpToDate(putRequest, GetIntegrationResponse.builder()
+                .objectTypeName("objectType")
+                .build())).isTrue();
+        assertThat(Translator.isUpToDate(putRequest, GetIntegrationResponse.builder()
+                .objectTypeName("objectType")
+                .tags(ImmutableMap.of("Key1", "Value1"))
+                .build())).isFalse();
+        assertThat(Translator.isUpToDate(putRequest, GetIntegrationResponse.builder()
+                .objectTypeName("otherObjectType")
+                .build())).isFalse();
+    }
+
+    @Test
+    public void mapTagsToList_tags() {
+        final List<Tag> tags = Translator.mapTagsToList(ImmutableMap.of("key1", "value1", "key2", "value2"));
+
+        assertThat(tags).containsExactly(
+                Tag.builder().key("key1").value("value1").build(),
+                Tag.builder().key("key2").value("value2").build());
+        assertNull(Translator.mapTagsToList(ImmutableMap.of()));
+        assertNull(Translator.mapTagsToList(null));
+    }
+
+    @Test
+    public void translateFromListItems_convertsEachItem() {
+        final Instant time = Instant.now();
+        final List<ListIntegrationItem> items = Collections.singletonList(ListIntegrationItem.builder()
+                .domainName("domainName")
+                .objectTypeName("objectTypeName")
+                .uri("uri")
+                .createdAt(time)
+                .lastUpdatedAt(time)
+                .build());
+
+        final List<ResourceModel> models = Translator.translateFromListItems(items);
+
+        assertThat(models).hasSize(1);
+        assertThat(models.get(0).getDomainName()).isEqualTo("domainName");
+        assertThat(models.get(0).getObjectTypeName()).isEqualTo("objectTypeName");
+        assertThat(models.get(0).getUri()).isEqualTo("uri");
+        assertThat(models.get(0).getLastUpdatedAt()).isEqualTo(time.toString());
+        assertThat(models.get(0).getTags()).isNull();
+    }
 }
@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableMap;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.AccessDeniedException;
 import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
 import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationRequest;
 import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationResponse;
@@ -11,12 +12,16 @@ import software.amazon.awssdk.services.customerprofiles.model.InternalServerExce
 import software.amazon.awssdk.services.customerprofiles.model.PutIntegrationRequest;
 import software.amazon.awssdk.services.customerprofiles.model.PutIntegrationResponse;
 import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.customerprofiles.model.TagResourceRequest;
+import software.amazon.awssdk.services.customerprofiles.model.TagResourceResponse;
 import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
 import software.amazon.awssdk.services.customerprofiles.model.UntagResourceRequest;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.awssdk.services.customerprofiles.model.UntagResourceResponse;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -34,6 +39,11 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static software.amazon.customerprofiles.integration.translators.TestUtils.getValidFlowDefinition;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest {
@@ -56,6 +66,7 @@ public class UpdateHandlerTest {
 
     @BeforeEach
     public void setup() {
+        IntegrationCache.setTtlSeconds(0);
         proxy = Mockito.mock(AmazonWebServicesClientProxy.class);
         customerProfilesClient = Mockito.mock(CustomerProfilesClient.class);
         logger = Mockito.mock(Logger.class);
@@ -88,6 +99,8 @@ public class UpdateHandlerTest {
 
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenReturn(putIntegrationResponse);
+        Mockito.doReturn(GetIntegrationResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetIntegrationRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -123,6 +136,8 @@ public class UpdateHandlerTest {
 
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenReturn(putIntegrationResponse);
+        Mockito.doReturn(GetIntegrationResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetIntegrationRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -159,6 +174,8 @@ public class UpdateHandlerTest {
 
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenReturn(putIntegrationResponse);
+        Mockito.doReturn(GetIntegrationResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetIntegrationRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -193,6 +210,8 @@ public class UpdateHandlerTest {
 
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenReturn(putIntegrationResponse);
+        Mockito.doReturn(GetIntegrationResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetIntegrationRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -227,6 +246,8 @@ public class UpdateHandlerTest {
 
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenReturn(putIntegrationResponse);
+        Mockito.doReturn(GetIntegrationResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetIntegrationRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -320,7 +341,7 @@ public class UpdateHandlerTest {
     }
 
     @Test
-    public void handleRequest_putIntegration_otherException() {
+    public void handleRequest_putIntegration_ThrottlingException() {
         final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -342,7 +363,7 @@ public class UpdateHandlerTest {
         Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
                 any(PutIntegrationRequest.class), any());
 
-        assertThrows(CfnGeneralServiceException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        assertThrows(CfnThrottlingException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
 
     @Test
@@ -406,7 +427,7 @@ public class UpdateHandlerTest {
     }
 
     @Test
-    public void handleRequest_getIntegration_otherException() {
+    public void handleRequest_getIntegration_ThrottlingException() {
         final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -422,9 +443,168 @@ public class UpdateHandlerTest {
         Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
                 any(GetIntegrationRequest.class), any());
 
-        assertThrows(CfnGeneralServiceException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        assertThrows(CfnThrottlingException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    @Test
+    public void handleRequest_upToDate_skipsPut() {
+        final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceTags(DESIRED_TAGS)
+                .desiredResourceTags(DESIRED_TAGS)
+                .build();
+
+        GetIntegrationResponse getIntegrationResponse = GetIntegrationResponse.builder()
+                .createdAt(TIME)
+                .domainName(DOMAIN_NAME)
+                .lastUpdatedAt(TIME)
+                .objectTypeName(OBJECT_TYPE_NAME)
+                .tags(DESIRED_TAGS)
+                .uri(URI)
+                .build();
+
+        Mockito.doReturn(getIntegrationResponse).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetIntegrationRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getUri()).isEqualTo(URI);
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(PutIntegrationRequest.class), any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(UntagResourceRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_onlyFlowDefinitionChanged_putsEvenIfGetMatches() {
+        final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .domainName(DOMAIN_NAME)
+                .objectTypeName(OBJECT_TYPE_NAME)
+                .uri(URI)
+                .flowDefinition(getValidFlowDefinition("Salesforce"))
+                .build();
+        final ResourceModel desiredModel = ResourceModel.builder()
+                .domainName(DOMAIN_NAME)
+                .objectTypeName(OBJECT_TYPE_NAME)
+                .uri(URI)
+                .flowDefinition(getValidFlowDefinition("Salesforce"))
+                .build();
+        desiredModel.getFlowDefinition().setDescription("updated description");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(desiredModel)
+                .previousResourceTags(DESIRED_TAGS)
+                .desiredResourceTags(DESIRED_TAGS)
+                .build();
+
+        Mockito.doReturn(GetIntegrationResponse.builder()
+                .createdAt(TIME)
+                .domainName(DOMAIN_NAME)
+                .lastUpdatedAt(TIME)
+                .objectTypeName(OBJECT_TYPE_NAME)
+                .tags(DESIRED_TAGS)
+                .uri(URI)
+                .build()).when(proxy).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
+        Mockito.doReturn(PutIntegrationResponse.builder()
+                .createdAt(TIME)
+                .domainName(DOMAIN_NAME)
+                .lastUpdatedAt(TIME)
+                .objectTypeName(OBJECT_TYPE_NAME)
+                .tags(DESIRED_TAGS)
+                .uri(URI)
+                .build()).when(proxy).injectCredentialsAndInvokeV2(any(PutIntegrationRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxy).injectCredentialsAndInvokeV2(any(PutIntegrationRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_noChanges_skipsServiceCalls() {
+        final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(model)
+                .desiredResourceState(model)
+                .previousResourceTags(DESIRED_TAGS)
+                .desiredResourceTags(DESIRED_TAGS)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(model);
+        verifyNoInteractions(proxy);
+    }
+
+    @Test
+    public void handleRequest_onlyTagsChanged_appliesTagDelta() {
+        final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(model)
+                .desiredResourceState(model)
+                .previousResourceTags(PREVIOUS_TAGS)
+                .desiredResourceTags(DESIRED_TAGS)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxy).injectCredentialsAndInvokeV2(any(TagResourceRequest.class), any());
+        verify(proxy).injectCredentialsAndInvokeV2(any(UntagResourceRequest.class), any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(PutIntegrationRequest.class), any());
     }
 
+    @Test
+    public void handleRequest_onlyTagsChanged_invalidatesCachedGet() {
+        IntegrationCache.setTtlSeconds(5);
+        final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(model)
+                .desiredResourceState(model)
+                .previousResourceTags(PREVIOUS_TAGS)
+                .desiredResourceTags(DESIRED_TAGS)
+                .build();
 
+        Mockito.doReturn(GetIntegrationResponse.builder().tags(PREVIOUS_TAGS).build()).when(proxy)
+                .injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
+        Mockito.doReturn(TagResourceResponse.builder().build()).when(proxy)
+                .injectCredentialsAndInvokeV2(any(TagResourceRequest.class), any());
+        Mockito.doReturn(UntagResourceResponse.builder().build()).when(proxy)
+                .injectCredentialsAndInvokeV2(any(UntagResourceRequest.class), any());
+        IntegrationCache.get(proxy, customerProfilesClient, request);
 
+        handler.handleRequest(proxy, request, null, logger);
+        IntegrationCache.get(proxy, customerProfilesClient, request);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(GetIntegrationRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_onlyTagsChanged_AccessDeniedException() {
+        final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(model)
+                .desiredResourceState(model)
+                .previousResourceTags(PREVIOUS_TAGS)
+                .desiredResourceTags(DESIRED_TAGS)
+                .build();
+
+        Mockito.doThrow(AccessDeniedException.builder().message("AccessDeniedException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(TagResourceRequest.class), any());
+
+        assertThrows(CfnAccessDeniedException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
 }
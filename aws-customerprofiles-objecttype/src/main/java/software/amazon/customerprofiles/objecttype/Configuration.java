@@ -2,6 +2,10 @@ package software.amazon.customerprofiles.objecttype;
 
 class Configuration extends BaseConfiguration {
 
+    static {
+        Bootstrap.warmUpIfEnabled();
+    }
+
     public Configuration() {
         super("aws-customerprofiles-objecttype.json");
     }
@@ -5,15 +5,10 @@ import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
 import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
 import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeRequest;
 import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeResponse;
-import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
 import software.amazon.awssdk.services.customerprofiles.model.PutProfileObjectTypeRequest;
 import software.amazon.awssdk.services.customerprofiles.model.PutProfileObjectTypeResponse;
 import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -38,86 +33,117 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        CallMetrics.setHandler(getClass().getSimpleName());
+        final HandlerLogger log = HandlerLogger.of(logger);
         if (this.client == null) {
-            this.client = ClientBuilder.getClient();
+            this.client = ClientBuilder.getClient(request.getRegion());
         }
 
+        ServiceInvoker.startInvocation();
+        try {
+            return create(proxy, request, log);
+        } finally {
+            ServiceInvoker.endInvocation();
+            CallMetrics.clearHandler();
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> create(final AmazonWebServicesClientProxy proxy,
+                                                                 final ResourceHandlerRequest<ResourceModel> request,
+                                                                 final HandlerLogger log) {
         final ResourceModel model = request.getDesiredResourceState();
 
+        // Always asked of the service: a stale cached answer would report a false AlreadyExists
         final GetProfileObjectTypeRequest getProfileObjectTypeRequest = GetProfileObjectTypeRequest.builder()
                 .domainName(model.getDomainName())
                 .objectTypeName(model.getObjectTypeName())
                 .build();
-        final GetProfileObjectTypeResponse getProfileObjectTypeResponse;
-        try {
-            getProfileObjectTypeResponse = proxy.injectCredentialsAndInvokeV2(getProfileObjectTypeRequest, client::getProfileObjectType);
-        } catch (Exception exc) {
-            // 1. BadRequestException will also handled by PutProfileObjectType
-            // 2. ResourceNotFoundException is the exact exception we want before calling PutProfileObjectType
-            // 3. Whatever 5xx error GetProfileObjectType call meet, it should not affect the performance of Create Action
-            Map<String, String> resourceTag;
-            if (request.getDesiredResourceTags() == null) {
-                resourceTag = null;
-            } else if (request.getDesiredResourceTags().isEmpty()) {
-                resourceTag = null;
-            } else {
-                resourceTag = request.getDesiredResourceTags();
-            }
-            final PutProfileObjectTypeRequest putProfileObjectTypeRequest = PutProfileObjectTypeRequest.builder()
-                    .domainName(model.getDomainName())
-                    .objectTypeName(model.getObjectTypeName())
-                    .allowProfileCreation(model.getAllowProfileCreation())
-                    .description(model.getDescription())
-                    .encryptionKey(model.getEncryptionKey())
-                    .expirationDays(model.getExpirationDays())
-                    .fields(Translator.listFieldsToMap(model.getFields()))
-                    .keys(Translator.listKeysToMap(model.getKeys()))
-                    .tags(resourceTag)
-                    .templateId(model.getTemplateId())
-                    .build();
-
-            final PutProfileObjectTypeResponse putProfileObjectTypeResponse;
-            try {
-                putProfileObjectTypeResponse = proxy.injectCredentialsAndInvokeV2(putProfileObjectTypeRequest, client::putProfileObjectType);
-                logger.log(String.format("ProfileObjectType Created with domainName = %s, objectTypeName = %s",
-                        model.getDomainName(), model.getObjectTypeName()));
-            } catch (BadRequestException e) {
-                throw new CfnInvalidRequestException(e);
-            } catch (ResourceNotFoundException e) {
-                throw new CfnNotFoundException(e);
-            } catch (InternalServerException e) {
-                throw new CfnServiceInternalErrorException(e);
-            } catch (Exception e) {
-                throw new CfnGeneralServiceException(e);
-            }
-
-            final ResourceModel responseModel = ResourceModel.builder()
-                    .domainName(model.getDomainName())
-                    .allowProfileCreation(putProfileObjectTypeResponse.allowProfileCreation())
-                    .createdAt(putProfileObjectTypeResponse.createdAt().toString())
-                    .description(putProfileObjectTypeResponse.description())
-                    .encryptionKey(putProfileObjectTypeResponse.encryptionKey())
-                    .expirationDays(putProfileObjectTypeResponse.expirationDays())
-                    .fields(Translator.mapFieldsToList(putProfileObjectTypeResponse.fields()))
-                    .keys(Translator.mapKeysToList(putProfileObjectTypeResponse.keys()))
-                    .lastUpdatedAt(putProfileObjectTypeResponse.lastUpdatedAt().toString())
-                    .objectTypeName(putProfileObjectTypeResponse.objectTypeName())
-                    .tags(Translator.mapTagsToList(putProfileObjectTypeResponse.tags()))
-                    .templateId(putProfileObjectTypeResponse.templateId())
-                    .build();
-
-            return ProgressEvent.defaultSuccessHandler(responseModel);
+        final ExistenceProbe<GetProfileObjectTypeResponse> probe =
+                ExistenceProbe.probe(proxy, getProfileObjectTypeRequest, client::getProfileObjectType);
+        if (probe.status() == ExistenceProbe.Status.UNKNOWN) {
+            // Creating without knowing could overwrite an existing resource, since PutProfileObjectType is an upsert;
+            // throttling and 5xx errors have already been retried by ServiceInvoker
+            log.warn(() -> String.format(
+                    "GetProfileObjectType failed before create with domainName = %s, objectTypeName = %s: %s",
+                    model.getDomainName(), model.getObjectTypeName(), probe.error()));
+            throw ExceptionTranslator.translate(probe.error());
+        }
+        if (probe.status() == ExistenceProbe.Status.ABSENT) {
+            return createObjectType(proxy, request, log);
         }
+        final GetProfileObjectTypeResponse getProfileObjectTypeResponse = probe.response();
 
         // If getProfileObjectType call succeed
         // Return a Bad Request Exception as ObjectType already existed
         final String errorMessage = String.format("ObjectType %s already exists with domainName = %s",
                 getProfileObjectTypeResponse.objectTypeName(), model.getDomainName());
-        logger.log(errorMessage);
+        log.warn(() -> errorMessage);
         BadRequestException e = BadRequestException.builder()
                 .statusCode(BAD_REQUEST_ERROR_CODE)
                 .message(errorMessage)
                 .build();
         throw new CfnAlreadyExistsException(e);
     }
+
+    /**
+     * Creates an object type
+     * @param proxy
+     * @param request
+     * @param log
+     * @return
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> createObjectType(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final HandlerLogger log
+    ) {
+        final ResourceModel model = request.getDesiredResourceState();
+        Map<String, String> resourceTag;
+        if (request.getDesiredResourceTags() == null) {
+            resourceTag = null;
+        } else if (request.getDesiredResourceTags().isEmpty()) {
+            resourceTag = null;
+        } else {
+            resourceTag = request.getDesiredResourceTags();
+        }
+        final PutProfileObjectTypeRequest putProfileObjectTypeRequest = PutProfileObjectTypeRequest.builder()
+                .domainName(model.getDomainName())
+                .objectTypeName(model.getObjectTypeName())
+                .allowProfileCreation(model.getAllowProfileCreation())
+                .description(model.getDescription())
+                .encryptionKey(model.getEncryptionKey())
+                .expirationDays(model.getExpirationDays())
+                .fields(Translator.listFieldsToMap(model.getFields()))
+                .keys(Translator.listKeysToMap(model.getKeys()))
+                .tags(resourceTag)
+                .templateId(model.getTemplateId())
+                .build();
+
+        final PutProfileObjectTypeResponse putProfileObjectTypeResponse;
+        try {
+            putProfileObjectTypeResponse = ServiceInvoker.invoke(proxy, putProfileObjectTypeRequest, client::putProfileObjectType);
+            ObjectTypeCache.invalidate(request);
+            log.info(() -> String.format("ProfileObjectType Created with domainName = %s, objectTypeName = %s",
+                    model.getDomainName(), model.getObjectTypeName()));
+        } catch (Exception e) {
+            throw ExceptionTranslator.translate(e);
+        }
+
+        final ResourceModel responseModel = ResourceModel.builder()
+                .domainName(model.getDomainName())
+                .allowProfileCreation(putProfileObjectTypeResponse.allowProfileCreation())
+                .createdAt(putProfileObjectTypeResponse.createdAt().toString())
+                .description(putProfileObjectTypeResponse.description())
+                .encryptionKey(putProfileObjectTypeResponse.encryptionKey())
+                .expirationDays(putProfileObjectTypeResponse.expirationDays())
+                .fields(Translator.mapFieldsToList(putProfileObjectTypeResponse.fields()))
+                .keys(Translator.mapKeysToList(putProfileObjectTypeResponse.keys()))
+                .lastUpdatedAt(putProfileObjectTypeResponse.lastUpdatedAt().toString())
+                .objectTypeName(putProfileObjectTypeResponse.objectTypeName())
+                .tags(Translator.mapTagsToList(putProfileObjectTypeResponse.tags()))
+                .templateId(putProfileObjectTypeResponse.templateId())
+                .build();
+
+        return ProgressEvent.defaultSuccessHandler(responseModel);
+    }
 }
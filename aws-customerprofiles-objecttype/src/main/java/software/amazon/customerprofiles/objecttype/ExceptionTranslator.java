@@ -0,0 +1,67 @@
+package software.amazon.customerprofiles.objecttype;
+
+import software.amazon.awssdk.services.customerprofiles.model.AccessDeniedException;
+import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
+import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
+import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Turns Customer Profiles exceptions into the CloudFormation exceptions the handlers throw, with lookups in a
+ * table keyed by the exception class instead of a ladder of catch clauses in every handler.
+ *
+ * An exception whose own class is not in the table takes the translation of its closest superclass that is, as a
+ * catch clause would. Exceptions that are already CloudFormation exceptions pass through unchanged, and anything
+ * else becomes a {@link CfnGeneralServiceException}.
+ */
+final class ExceptionTranslator {
+
+    private static final Map<Class<? extends Exception>, Function<Exception, BaseHandlerException>> TRANSLATIONS;
+
+    static {
+        final Map<Class<? extends Exception>, Function<Exception, BaseHandlerException>> translations =
+                new HashMap<>();
+        translations.put(BadRequestException.class, CfnInvalidRequestException::new);
+        translations.put(AccessDeniedException.class, CfnAccessDeniedException::new);
+        translations.put(ResourceNotFoundException.class, CfnNotFoundException::new);
+        translations.put(ThrottlingException.class, CfnThrottlingException::new);
+        translations.put(InternalServerException.class, CfnServiceInternalErrorException::new);
+        TRANSLATIONS = translations;
+    }
+
+    private ExceptionTranslator() {
+    }
+
+    /**
+     * @return the exception to throw from the handler for a failed service call
+     */
+    static BaseHandlerException translate(final Exception e) {
+        if (e instanceof BaseHandlerException) {
+            return (BaseHandlerException) e;
+        }
+        return translate(e, TRANSLATIONS);
+    }
+
+    static BaseHandlerException translate(
+            final Exception e,
+            final Map<Class<? extends Exception>, Function<Exception, BaseHandlerException>> translations) {
+        for (Class<?> type = e.getClass(); type != null; type = type.getSuperclass()) {
+            final Function<Exception, BaseHandlerException> translation = translations.get(type);
+            if (translation != null) {
+                return translation.apply(e);
+            }
+        }
+        return new CfnGeneralServiceException(e);
+    }
+}
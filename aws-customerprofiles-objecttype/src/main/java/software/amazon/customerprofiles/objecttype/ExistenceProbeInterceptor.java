@@ -0,0 +1,105 @@
+package software.amazon.customerprofiles.objecttype;
+
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Lets existence checks learn that a resource is absent without the SDK building a ResourceNotFoundException.
+ *
+ * Calls made inside {@link #probing(Supplier)} on this thread are marked when they start. For those calls a 404
+ * response is turned into an empty 200 response carrying {@value #ABSENT_HEADER}, which {@link #isAbsent} checks.
+ * All other calls, and every other status, pass through untouched. {@link #statusCode} reports the status the
+ * service actually sent, so metrics still see the 404.
+ */
+final class ExistenceProbeInterceptor implements ExecutionInterceptor {
+
+    static final String ABSENT_HEADER = "x-customerprofiles-probe-absent";
+    private static final ExecutionAttribute<Boolean> PROBE = new ExecutionAttribute<>("CustomerProfilesExistenceProbe");
+    private static final ThreadLocal<Boolean> PROBING = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private static final int NOT_FOUND = 404;
+    private static final int OK = 200;
+    private static final byte[] EMPTY_JSON = "{}".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Runs a synchronous call with not found answered as an empty response instead of an exception.
+     */
+    static <T> T probing(final Supplier<T> call) {
+        PROBING.set(Boolean.TRUE);
+        try {
+            return call.get();
+        } finally {
+            PROBING.remove();
+        }
+    }
+
+    /**
+     * @return true when the response stands for a 404 rewritten by this interceptor
+     */
+    static boolean isAbsent(final SdkResponse response) {
+        return response != null
+                && response.sdkHttpResponse() != null
+                && response.sdkHttpResponse().firstMatchingHeader(ABSENT_HEADER).isPresent();
+    }
+
+    /**
+     * @return the status code the service sent, which is 404 for a response this interceptor rewrote
+     */
+    static int statusCode(final SdkHttpResponse response) {
+        return response.firstMatchingHeader(ABSENT_HEADER).isPresent() ? NOT_FOUND : response.statusCode();
+    }
+
+    @Override
+    public void beforeExecution(final Context.BeforeExecution context,
+                                final ExecutionAttributes executionAttributes) {
+        if (PROBING.get()) {
+            executionAttributes.putAttribute(PROBE, Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public SdkHttpResponse modifyHttpResponse(final Context.ModifyHttpResponse context,
+                                              final ExecutionAttributes executionAttributes) {
+        final SdkHttpResponse response = context.httpResponse();
+        if (isProbe(executionAttributes) && response.statusCode() == NOT_FOUND) {
+            return response.toBuilder()
+                    .statusCode(OK)
+                    .putHeader(ABSENT_HEADER, Boolean.TRUE.toString())
+                    .build();
+        }
+        return response;
+    }
+
+    @Override
+    public Optional<InputStream> modifyHttpResponseContent(final Context.ModifyHttpResponse context,
+                                                           final ExecutionAttributes executionAttributes) {
+        if (isProbe(executionAttributes) && context.httpResponse().firstMatchingHeader(ABSENT_HEADER).isPresent()) {
+            // The error document is not needed; close it so the connection goes back to the pool
+            context.responseBody().ifPresent(ExistenceProbeInterceptor::closeQuietly);
+            return Optional.of(new ByteArrayInputStream(EMPTY_JSON));
+        }
+        return context.responseBody();
+    }
+
+    private static boolean isProbe(final ExecutionAttributes executionAttributes) {
+        return Boolean.TRUE.equals(executionAttributes.getAttribute(PROBE));
+    }
+
+    private static void closeQuietly(final InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            // nothing left to read from it either way
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package software.amazon.customerprofiles.objecttype;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs independent service calls of one handler invocation side by side, at most {@value #CONCURRENCY_ENV} at a time.
+ *
+ * Each call keeps going through {@link ServiceInvoker} on the shared blocking client, so retries, the invocation time
+ * budget and call metrics for the handler of the submitting thread apply as they would on that thread; the pooled
+ * thread gets its own values back once the call is done. Calls wait for a free slot on the submitting thread and run
+ * on a process-wide pool of daemon threads that grows with demand and shrinks when idle. With a concurrency of 1, or a
+ * single input, the calls run one after the other on the submitting thread.
+ */
+final class FanOut {
+
+    static final String CONCURRENCY_ENV = "CUSTOMER_PROFILES_FAN_OUT_CONCURRENCY";
+    private static final int DEFAULT_CONCURRENCY = 8;
+    private static final String THREAD_NAME = "customer-profiles-fan-out-";
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, THREAD_NAME + THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static final FanOut INSTANCE = new FanOut(concurrency(System.getenv(CONCURRENCY_ENV)), EXECUTOR);
+
+    private final int concurrency;
+    private final Executor executor;
+
+    FanOut(final int concurrency, final Executor executor) {
+        this.concurrency = Math.max(concurrency, 1);
+        this.executor = executor;
+    }
+
+    /**
+     * Applies {@code call} to every input and waits for all of them.
+     * @return the results in input order
+     * @throws RuntimeException the failure of the first input that failed, once every call has finished
+     */
+    <T, R> List<R> invokeAll(final List<T> inputs, final Function<? super T, ? extends R> call) {
+        final List<CompletableFuture<R>> futures = submitAll(inputs, call, NO_DEADLINE);
+        final List<R> results = new ArrayList<>(futures.size());
+        for (final CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Applies {@code call} to every input and waits until all of them have finished or {@code deadlineNanos}, a
+     * {@link System#nanoTime()} value, has passed. Inputs that had not started then fail with a
+     * {@link TimeoutException}, and calls still running are cancelled: their pool thread is interrupted, which ends
+     * a retry backoff at once and keeps the SDK client from starting another attempt, so no call outlives the wait.
+     * @return one future per input, in input order
+     */
+    <T, R> List<CompletableFuture<R>> submitAll(final List<T> inputs,
+                                                final Function<? super T, ? extends R> call,
+                                                final long deadlineNanos) {
+        final List<CompletableFuture<R>> futures = new ArrayList<>(inputs.size());
+        if (concurrency == 1 || inputs.size() <= 1) {
+            for (final T input : inputs) {
+                futures.add(before(deadlineNanos) ? runInline(input, call) : timedOut());
+            }
+            return futures;
+        }
+
+        final Semaphore slots = new Semaphore(concurrency);
+        final String handler = CallMetrics.getHandler();
+        final Long invocationDeadline = ServiceInvoker.getInvocationDeadline();
+        for (final T input : inputs) {
+            if (!before(deadlineNanos) || !acquire(slots, deadlineNanos)) {
+                futures.add(timedOut());
+                continue;
+            }
+            final Call<R> future = new Call<>();
+            try {
+                executor.execute(() -> {
+                    final String previousHandler = CallMetrics.getHandler();
+                    final Long previousDeadline = ServiceInvoker.getInvocationDeadline();
+                    try {
+                        if (future.start()) {
+                            CallMetrics.setHandler(handler);
+                            ServiceInvoker.setInvocationDeadline(invocationDeadline);
+                            future.complete(call.apply(input));
+                        }
+                    } catch (RuntimeException | Error e) {
+                        future.completeExceptionally(e);
+                    } finally {
+                        future.finish();
+                        CallMetrics.setHandler(previousHandler);
+                        ServiceInvoker.setInvocationDeadline(previousDeadline);
+                        slots.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                slots.release();
+                future.completeExceptionally(e);
+            }
+            futures.add(future);
+        }
+        await(futures, deadlineNanos);
+        for (final CompletableFuture<R> future : futures) {
+            future.cancel(true);
+        }
+        return futures;
+    }
+
+    private static <T, R> CompletableFuture<R> runInline(final T input, final Function<? super T, ? extends R> call) {
+        final CompletableFuture<R> future = new CompletableFuture<>();
+        try {
+            future.complete(call.apply(input));
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private static boolean before(final long deadlineNanos) {
+        return deadlineNanos == NO_DEADLINE || System.nanoTime() - deadlineNanos < 0;
+    }
+
+    private static <R> CompletableFuture<R> timedOut() {
+        final CompletableFuture<R> future = new CompletableFuture<>();
+        future.completeExceptionally(new TimeoutException("Time budget ran out before the call started"));
+        return future;
+    }
+
+    private static boolean acquire(final Semaphore slots, final long deadlineNanos) {
+        try {
+            if (deadlineNanos == NO_DEADLINE) {
+                slots.acquire();
+                return true;
+            }
+            return slots.tryAcquire(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void await(final List<? extends CompletableFuture<?>> futures, final long deadlineNanos) {
+        final CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+        try {
+            if (deadlineNanos == NO_DEADLINE) {
+                all.get();
+            } else {
+                all.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Failures stay on their own futures; calls still running after the deadline are cancelled by the caller
+        }
+    }
+
+    /**
+     * Result of one call on the pool. Cancelling it interrupts the pool thread while the call runs, and only then, so
+     * an interrupt never reaches the next task the thread picks up.
+     */
+    private static final class Call<R> extends CompletableFuture<R> {
+
+        private Thread runner;
+
+        /**
+         * @return false when the call was cancelled before it started
+         */
+        synchronized boolean start() {
+            if (isDone()) {
+                return false;
+            }
+            runner = Thread.currentThread();
+            return true;
+        }
+
+        synchronized void finish() {
+            runner = null;
+            Thread.interrupted();
+        }
+
+        @Override
+        public synchronized boolean cancel(final boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled && mayInterruptIfRunning && runner != null) {
+                runner.interrupt();
+            }
+            return cancelled;
+        }
+    }
+
+    /**
+     * @return the concurrency named by {@code value}, or the default when it is not a positive number
+     */
+    static int concurrency(final String value) {
+        if (value == null) {
+            return DEFAULT_CONCURRENCY;
+        }
+        try {
+            final int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : DEFAULT_CONCURRENCY;
+        } catch (NumberFormatException e) {
+            return DEFAULT_CONCURRENCY;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package software.amazon.customerprofiles.objecttype;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Level-aware front for the CloudFormation {@link Logger}. Messages are passed as suppliers, so nothing is formatted
+ * unless the message is actually written.
+ *
+ * The level comes from {@value #LEVEL_ENV}. List invocations can run in large numbers during drift detection and
+ * resource import, so {@link #sampled(double)} keeps only a share of them logging below WARN.
+ */
+final class HandlerLogger {
+
+    static final String LEVEL_ENV = "CUSTOMER_PROFILES_LOG_LEVEL";
+    static final String LIST_SAMPLE_RATE_ENV = "CUSTOMER_PROFILES_LIST_LOG_SAMPLE_RATE";
+
+    enum Level {
+        DEBUG, INFO, WARN, OFF
+    }
+
+    private static final Level LEVEL = levelFromEnv();
+    static final double LIST_SAMPLE_RATE = sampleRateFromEnv();
+
+    private final Logger logger;
+    private final Level level;
+
+    HandlerLogger(final Logger logger, final Level level) {
+        this.logger = logger;
+        this.level = level;
+    }
+
+    static HandlerLogger of(final Logger logger) {
+        return new HandlerLogger(logger, LEVEL);
+    }
+
+    /**
+     * Decides once for the whole invocation whether it logs at the configured level or only WARN.
+     * @param rate share of invocations, between 0 and 1, that keep the configured level
+     */
+    HandlerLogger sampled(final double rate) {
+        if (level.compareTo(Level.WARN) >= 0 || rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate) {
+            return this;
+        }
+        return new HandlerLogger(logger, Level.WARN);
+    }
+
+    boolean isEnabled(final Level messageLevel) {
+        return messageLevel != Level.OFF && messageLevel.compareTo(level) >= 0;
+    }
+
+    void debug(final Supplier<String> message) {
+        log(Level.DEBUG, message);
+    }
+
+    void info(final Supplier<String> message) {
+        log(Level.INFO, message);
+    }
+
+    void warn(final Supplier<String> message) {
+        log(Level.WARN, message);
+    }
+
+    private void log(final Level messageLevel, final Supplier<String> message) {
+        if (isEnabled(messageLevel)) {
+            logger.log(message.get());
+        }
+    }
+
+    private static Level levelFromEnv() {
+        final String value = System.getenv(LEVEL_ENV);
+        if (value == null) {
+            return Level.INFO;
+        }
+        try {
+            return Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+
+    private static double sampleRateFromEnv() {
+        final String value = System.getenv(LIST_SAMPLE_RATE_ENV);
+        if (value == null) {
+            return 1;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+}
@@ -2,15 +2,12 @@ package software.amazon.customerprofiles.objecttype;
 
 import lombok.NoArgsConstructor;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
-import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
-import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
-import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypesRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypeItem;
 import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypesResponse;
 import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -19,16 +16,60 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @NoArgsConstructor
 public class ListHandler extends BaseHandler<CallbackContext> {
 
+    static final String MAX_PAGES_ENV = "CUSTOMER_PROFILES_LIST_MAX_PAGES";
+    static final String TIME_BUDGET_MILLIS_ENV = "CUSTOMER_PROFILES_LIST_TIME_BUDGET_MILLIS";
+    static final String HYDRATE_ENV = "CUSTOMER_PROFILES_LIST_HYDRATE";
+    private static final long DEFAULT_MAX_PAGES = 1;
+    private static final long DEFAULT_TIME_BUDGET_MILLIS = 30000;
+
     private CustomerProfilesClient client;
+    private long maxPages = longFromEnv(MAX_PAGES_ENV, DEFAULT_MAX_PAGES);
+    private long timeBudgetMillis = longFromEnv(TIME_BUDGET_MILLIS_ENV, DEFAULT_TIME_BUDGET_MILLIS);
+    private boolean hydrate = Boolean.parseBoolean(System.getenv(HYDRATE_ENV));
+    private FanOut fanOut = FanOut.INSTANCE;
 
     public ListHandler(CustomerProfilesClient client) {
         this.client = client;
     }
 
+    /**
+     * @param maxPages         how many ListProfileObjectTypes pages to read in one invocation before handing the next
+     *                         token back to CloudFormation
+     * @param timeBudgetMillis stop reading further pages once this much time has passed since the invocation started.
+     *                         The handler cannot see the Lambda remaining time, so keep this below the handler timeout.
+     */
+    public ListHandler(CustomerProfilesClient client, long maxPages, long timeBudgetMillis) {
+        this.client = client;
+        this.maxPages = maxPages;
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
+    /**
+     * @param hydrate when true, complete every listed object type with its fields, keys, encryption key, expiration
+     *                and template through concurrent GetProfileObjectType calls. A page that cannot be hydrated
+     *                within the time budget is left for the next invocation and the token that fetched it is
+     *                returned; the List fails when that is the first page of the domain.
+     */
+    public ListHandler(CustomerProfilesClient client, long maxPages, long timeBudgetMillis, boolean hydrate) {
+        this(client, maxPages, timeBudgetMillis, hydrate, FanOut.INSTANCE);
+    }
+
+    ListHandler(CustomerProfilesClient client, long maxPages, long timeBudgetMillis, boolean hydrate, FanOut fanOut) {
+        this.client = client;
+        this.maxPages = maxPages;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.hydrate = hydrate;
+        this.fanOut = fanOut;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -36,49 +77,154 @@ public class ListHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        CallMetrics.setHandler(getClass().getSimpleName());
+        final HandlerLogger log = HandlerLogger.of(logger).sampled(HandlerLogger.LIST_SAMPLE_RATE);
         if (this.client == null) {
-            this.client = ClientBuilder.getClient();
+            this.client = ClientBuilder.getClient(request.getRegion());
         }
 
+        ServiceInvoker.startInvocation();
+        try {
+            return list(proxy, request, log);
+        } finally {
+            ServiceInvoker.endInvocation();
+            CallMetrics.clearHandler();
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> list(final AmazonWebServicesClientProxy proxy,
+                                                               final ResourceHandlerRequest<ResourceModel> request,
+                                                               final HandlerLogger log) {
         final ResourceModel model = request.getDesiredResourceState();
 
-        final ListProfileObjectTypesRequest listProfileObjectTypesRequest = ListProfileObjectTypesRequest.builder()
-                .domainName(model.getDomainName())
-                .nextToken(request.getNextToken())
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        final List<ListProfileObjectTypeItem> items = new ArrayList<>();
+        final List<ResourceModel> hydratedModels = new ArrayList<>();
+        final ProfileObjectTypePaginator paginator = new ProfileObjectTypePaginator(
+                listProfileObjectTypesRequest -> ServiceInvoker.invoke(
+                        proxy, listProfileObjectTypesRequest, client::listProfileObjectTypes),
+                model.getDomainName(),
+                request.getNextToken());
+        String pageToken = request.getNextToken();
+        String nextToken;
+        long pages = 0;
+        do {
+            final ListProfileObjectTypesResponse listProfileObjectTypesResponse = nextPage(paginator);
+            log.debug(() -> String.format("List ProfileObjectTypes with domainName = %s",
+                    model.getDomainName()));
+            nextToken = paginator.nextToken();
+            if (!hydrate) {
+                items.addAll(listProfileObjectTypesResponse.items());
+            } else {
+                final List<ResourceModel> hydrated = hydrate(proxy, model.getDomainName(),
+                        listProfileObjectTypesResponse.items(), deadline);
+                if (hydrated == null) {
+                    if (pageToken == null) {
+                        // Nothing to hand back that would start the listing over
+                        throw new CfnGeneralServiceException("GetProfileObjectType", new TimeoutException(
+                                "The first page was not hydrated within " + timeBudgetMillis + " ms"));
+                    }
+                    final long hydratedPages = pages;
+                    log.info(() -> String.format("Hydrated %d pages of ProfileObjectTypes with domainName = %s "
+                            + "within the time budget, leaving the rest for the next call",
+                            hydratedPages, model.getDomainName()));
+                    nextToken = pageToken;
+                    break;
+                }
+                hydratedModels.addAll(hydrated);
+            }
+            pageToken = nextToken;
+            pages++;
+        } while (paginator.hasNext() && pages < maxPages && System.nanoTime() - deadline < 0);
+
+        final List<ResourceModel> models = hydrate
+                ? hydratedModels
+                : Translator.translateFromListItems(model.getDomainName(), items);
+        final long pageCount = pages;
+        if (pageCount > 1) {
+            log.info(() -> String.format("Listed %d ProfileObjectTypes with domainName = %s from %d pages",
+                    models.size(), model.getDomainName(), pageCount));
+        }
+
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(models)
+                .status(OperationStatus.SUCCESS)
+                .nextToken(nextToken)
                 .build();
+    }
+
+    /**
+     * Completes the items of one page with concurrent GetProfileObjectType calls. Object types deleted since they
+     * were listed are left out; any other failure fails the List.
+     * Calls still running at {@code deadline} are cancelled.
+     * @return the full models in list order, or null when the page could not be hydrated before {@code deadline}
+     */
+    private List<ResourceModel> hydrate(final AmazonWebServicesClientProxy proxy,
+                                        final String domainName,
+                                        final List<ListProfileObjectTypeItem> items,
+                                        final long deadline) {
+        final List<CompletableFuture<GetProfileObjectTypeResponse>> responses = fanOut.submitAll(items,
+                item -> getIfExists(proxy, domainName, item.objectTypeName()), deadline);
+        final List<ResourceModel> models = new ArrayList<>(items.size());
+        boolean complete = true;
+        for (final CompletableFuture<GetProfileObjectTypeResponse> response : responses) {
+            if (response.isCancelled()) {
+                complete = false;
+                continue;
+            }
+            final GetProfileObjectTypeResponse getProfileObjectTypeResponse;
+            try {
+                getProfileObjectTypeResponse = response.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof TimeoutException) {
+                    complete = false;
+                    continue;
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw ExceptionTranslator.translate((Exception) e.getCause());
+            }
+            if (getProfileObjectTypeResponse != null) {
+                models.add(Translator.translateFromGetResponse(domainName, getProfileObjectTypeResponse));
+            }
+        }
+        return complete ? models : null;
+    }
 
-        final ListProfileObjectTypesResponse listProfileObjectTypesResponse;
+    /**
+     * @return the object type, or null when it no longer exists
+     */
+    private GetProfileObjectTypeResponse getIfExists(final AmazonWebServicesClientProxy proxy,
+                                                     final String domainName,
+                                                     final String objectTypeName) {
         try {
-            listProfileObjectTypesResponse = proxy.injectCredentialsAndInvokeV2(listProfileObjectTypesRequest, client::listProfileObjectTypes);
-            logger.log(String.format("List ProfileObjectTypes with domainName = %s",
-                    model.getDomainName()));
-        } catch (BadRequestException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
+            return ServiceInvoker.invoke(proxy, GetProfileObjectTypeRequest.builder()
+                    .domainName(domainName)
+                    .objectTypeName(objectTypeName)
+                    .build(), client::getProfileObjectType);
         } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
-        } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
+            return null;
         }
+    }
 
-        List<ResourceModel> responseModels = new ArrayList<>();
-        listProfileObjectTypesResponse.items().forEach(res -> {
-            ResourceModel responseModel = ResourceModel.builder()
-                    .domainName(listProfileObjectTypesRequest.domainName())
-                    .createdAt(res.createdAt().toString())
-                    .description(res.description())
-                    .lastUpdatedAt(res.lastUpdatedAt().toString())
-                    .objectTypeName(res.objectTypeName())
-                    .tags(Translator.mapTagsToList(res.tags()))
-                    .build();
-            responseModels.add(responseModel);
-        });
+    private static ListProfileObjectTypesResponse nextPage(final ProfileObjectTypePaginator paginator) {
+        try {
+            return paginator.next();
+        } catch (Exception e) {
+            throw ExceptionTranslator.translate(e);
+        }
+    }
 
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(responseModels)
-                .status(OperationStatus.SUCCESS)
-                .nextToken(listProfileObjectTypesRequest.nextToken())
-                .build();
+    private static long longFromEnv(final String name, final long defaultValue) {
+        final String value = System.getenv(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
     }
 }
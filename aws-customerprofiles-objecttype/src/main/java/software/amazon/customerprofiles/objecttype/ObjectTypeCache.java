@@ -0,0 +1,99 @@
+package software.amazon.customerprofiles.objecttype;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived, size-bounded read-through cache for the GetProfileObjectType call the handlers make to confirm
+ * an object type exists before writing it.
+ *
+ * Entries are keyed by account, region, domain and object type name. Only successful responses are cached, so
+ * errors (including not found) always reach the caller, and every write to an object type invalidates its entry.
+ * CreateHandler does not use it: its existence check always goes to the service.
+ * Caching is off unless {@value #TTL_ENV} sets a TTL: UpdateHandler compares the cached response with the desired
+ * state, so an entry can hide a change or a deletion made outside CloudFormation until it expires.
+ */
+final class ObjectTypeCache {
+
+    static final String TTL_ENV = "CUSTOMER_PROFILES_GET_CACHE_TTL_SECONDS";
+    private static final long DEFAULT_TTL_SECONDS = 0;
+    private static final long MAX_ENTRIES = 256;
+
+    private static volatile Cache<String, GetProfileObjectTypeResponse> cache = newCache(ttlSeconds());
+
+    private ObjectTypeCache() {
+    }
+
+    static GetProfileObjectTypeResponse get(final AmazonWebServicesClientProxy proxy,
+                                            final CustomerProfilesClient client,
+                                            final ResourceHandlerRequest<ResourceModel> request) {
+        final String key = key(request);
+        final GetProfileObjectTypeResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final GetProfileObjectTypeResponse response =
+                ServiceInvoker.invoke(proxy, getProfileObjectTypeRequest(request), client::getProfileObjectType);
+        if (response != null) {
+            cache.put(key, response);
+        }
+        return response;
+    }
+
+    static void invalidate(final ResourceHandlerRequest<ResourceModel> request) {
+        cache.invalidate(key(request));
+    }
+
+    static void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Replaces the cache with an empty one that keeps entries for {@code ttlSeconds}; 0 disables caching.
+     */
+    static void setTtlSeconds(final long ttlSeconds) {
+        cache = newCache(ttlSeconds);
+    }
+
+    private static GetProfileObjectTypeRequest getProfileObjectTypeRequest(
+            final ResourceHandlerRequest<ResourceModel> request) {
+        final ResourceModel model = request.getDesiredResourceState();
+        return GetProfileObjectTypeRequest.builder()
+                .domainName(model.getDomainName())
+                .objectTypeName(model.getObjectTypeName())
+                .build();
+    }
+
+    private static String key(final ResourceHandlerRequest<ResourceModel> request) {
+        final ResourceModel model = request.getDesiredResourceState();
+        return request.getAwsAccountId() + "/" + request.getRegion() + "/" + model.getDomainName()
+                + "/" + model.getObjectTypeName();
+    }
+
+    private static Cache<String, GetProfileObjectTypeResponse> newCache(final long ttlSeconds) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(ttlSeconds > 0 ? MAX_ENTRIES : 0)
+                .expireAfterWrite(Math.max(ttlSeconds, 0), TimeUnit.SECONDS)
+                .build();
+    }
+
+    private static long ttlSeconds() {
+        final String ttl = System.getenv(TTL_ENV);
+        if (ttl == null) {
+            return DEFAULT_TTL_SECONDS;
+        }
+        try {
+            return Long.parseLong(ttl.trim());
+        } catch (NumberFormatException e) {
+            return DEFAULT_TTL_SECONDS;
+        }
+    }
+}
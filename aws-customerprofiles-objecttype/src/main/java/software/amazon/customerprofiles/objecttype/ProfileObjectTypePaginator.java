@@ -0,0 +1,68 @@
+package software.amazon.customerprofiles.objecttype;
+
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypesRequest;
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypesResponse;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Walks the ListProfileObjectTypes pages of a domain lazily, one service call per {@link #next()}, so callers only
+ * hold the page they are working on.
+ *
+ * The SDK does not generate a paginator for this operation, so this follows the shape of the generated ones while
+ * letting the caller decide how each page is fetched (through the CloudFormation proxy in the handler). The token
+ * passed to the next call is always the one from the last response. A response that hands back the token it was
+ * called with ends the walk instead of requesting the same page again.
+ */
+final class ProfileObjectTypePaginator implements Iterator<ListProfileObjectTypesResponse> {
+
+    private final Function<ListProfileObjectTypesRequest, ListProfileObjectTypesResponse> listProfileObjectTypes;
+    private final String domainName;
+    private String nextToken;
+    private boolean started;
+
+    /**
+     * @param startingToken token to resume from, null to start at the first page
+     */
+    ProfileObjectTypePaginator(
+            final Function<ListProfileObjectTypesRequest, ListProfileObjectTypesResponse> listProfileObjectTypes,
+            final String domainName,
+            final String startingToken) {
+        this.listProfileObjectTypes = listProfileObjectTypes;
+        this.domainName = domainName;
+        this.nextToken = startingToken;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !started || nextToken != null;
+    }
+
+    @Override
+    public ListProfileObjectTypesResponse next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final ListProfileObjectTypesRequest listProfileObjectTypesRequest = ListProfileObjectTypesRequest.builder()
+                .domainName(domainName)
+                .nextToken(nextToken)
+                .build();
+        final ListProfileObjectTypesResponse listProfileObjectTypesResponse =
+                listProfileObjectTypes.apply(listProfileObjectTypesRequest);
+        started = true;
+        final String responseToken = listProfileObjectTypesResponse.nextToken();
+        nextToken = responseToken == null || responseToken.equals(listProfileObjectTypesRequest.nextToken())
+                ? null
+                : responseToken;
+        return listProfileObjectTypesResponse;
+    }
+
+    /**
+     * @return token for the page after the last one returned, null once every page has been read
+     */
+    String nextToken() {
+        return nextToken;
+    }
+}
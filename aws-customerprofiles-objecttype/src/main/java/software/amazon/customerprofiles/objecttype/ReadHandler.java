@@ -2,15 +2,8 @@ package software.amazon.customerprofiles.objecttype;
 
 import lombok.NoArgsConstructor;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
-import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
 import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeRequest;
 import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeResponse;
-import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
-import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -33,10 +26,24 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        CallMetrics.setHandler(getClass().getSimpleName());
+        final HandlerLogger log = HandlerLogger.of(logger);
         if (this.client == null) {
-            this.client = ClientBuilder.getClient();
+            this.client = ClientBuilder.getClient(request.getRegion());
         }
 
+        ServiceInvoker.startInvocation();
+        try {
+            return read(proxy, request, log);
+        } finally {
+            ServiceInvoker.endInvocation();
+            CallMetrics.clearHandler();
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> read(final AmazonWebServicesClientProxy proxy,
+                                                               final ResourceHandlerRequest<ResourceModel> request,
+                                                               final HandlerLogger log) {
         final ResourceModel model = request.getDesiredResourceState();
 
         final GetProfileObjectTypeRequest getProfileObjectTypeRequest = GetProfileObjectTypeRequest.builder()
@@ -46,33 +53,15 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
 
         final GetProfileObjectTypeResponse getProfileObjectTypeResponse;
         try {
-            getProfileObjectTypeResponse = proxy.injectCredentialsAndInvokeV2(getProfileObjectTypeRequest, client::getProfileObjectType);
-            logger.log(String.format("Get ProfileObjectType with domainName = %s, objectTypeName = %s",
+            getProfileObjectTypeResponse = ServiceInvoker.invoke(proxy, getProfileObjectTypeRequest, client::getProfileObjectType);
+            log.info(() -> String.format("Get ProfileObjectType with domainName = %s, objectTypeName = %s",
                     model.getDomainName(), model.getObjectTypeName()));
-        } catch (BadRequestException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
         } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
+            throw ExceptionTranslator.translate(e);
         }
 
-        final ResourceModel responseModel = ResourceModel.builder()
-                .domainName(model.getDomainName())
-                .allowProfileCreation(getProfileObjectTypeResponse.allowProfileCreation())
-                .createdAt(getProfileObjectTypeResponse.createdAt().toString())
-                .description(getProfileObjectTypeResponse.description())
-                .encryptionKey(getProfileObjectTypeResponse.encryptionKey())
-                .expirationDays(getProfileObjectTypeResponse.expirationDays())
-                .fields(Translator.mapFieldsToList(getProfileObjectTypeResponse.fields()))
-                .keys(Translator.mapKeysToList(getProfileObjectTypeResponse.keys()))
-                .lastUpdatedAt(getProfileObjectTypeResponse.lastUpdatedAt().toString())
-                .objectTypeName(getProfileObjectTypeResponse.objectTypeName())
-                .tags(Translator.mapTagsToList(getProfileObjectTypeResponse.tags()))
-                .templateId(getProfileObjectTypeResponse.templateId())
-                .build();
+        final ResourceModel responseModel = Translator.translateFromGetResponse(model.getDomainName(),
+                getProfileObjectTypeResponse);
 
         return ProgressEvent.defaultSuccessHandler(responseModel);
     }
@@ -0,0 +1,84 @@
+package software.amazon.customerprofiles.objecttype;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compares the previous and desired state of an object type so updates only write what actually changed.
+ *
+ * Read-only properties (CreatedAt, LastUpdatedAt) are ignored. Fields and Keys are compared by name regardless
+ * of their order in the template, and so are the field names and standard identifiers inside each key. Tags are
+ * left to {@link TagHelper}, because the resource tags on the request also carry stack-level tags.
+ */
+final class ResourceModelDiff {
+
+    private ResourceModelDiff() {
+    }
+
+    /**
+     * @return names of the writable properties whose value differs, empty when nothing changed
+     */
+    static Set<String> changedProperties(final ResourceModel previous, final ResourceModel desired) {
+        final Set<String> changed = new LinkedHashSet<>();
+        if (!Objects.equals(previous.getAllowProfileCreation(), desired.getAllowProfileCreation())) {
+            changed.add("AllowProfileCreation");
+        }
+        if (!Objects.equals(previous.getDescription(), desired.getDescription())) {
+            changed.add("Description");
+        }
+        if (!Objects.equals(previous.getEncryptionKey(), desired.getEncryptionKey())) {
+            changed.add("EncryptionKey");
+        }
+        if (!Objects.equals(previous.getExpirationDays(), desired.getExpirationDays())) {
+            changed.add("ExpirationDays");
+        }
+        if (!Objects.equals(previous.getTemplateId(), desired.getTemplateId())) {
+            changed.add("TemplateId");
+        }
+        if (!fieldsByName(previous.getFields()).equals(fieldsByName(desired.getFields()))) {
+            changed.add("Fields");
+        }
+        if (!keysByName(previous.getKeys()).equals(keysByName(desired.getKeys()))) {
+            changed.add("Keys");
+        }
+        return changed;
+    }
+
+    private static Map<String, ObjectTypeField> fieldsByName(final List<FieldMap> fieldMaps) {
+        final Map<String, ObjectTypeField> fields = new HashMap<>();
+        if (fieldMaps != null) {
+            fieldMaps.forEach(each -> fields.put(each.getName(), each.getObjectTypeField()));
+        }
+        return fields;
+    }
+
+    private static Map<String, Set<List<Set<String>>>> keysByName(final List<KeyMap> keyMaps) {
+        final Map<String, Set<List<Set<String>>>> keys = new HashMap<>();
+        if (keyMaps != null) {
+            for (KeyMap keyMap : keyMaps) {
+                final Set<List<Set<String>>> objectTypeKeys = new HashSet<>();
+                if (keyMap.getObjectTypeKeyList() != null) {
+                    for (ObjectTypeKey objectTypeKey : keyMap.getObjectTypeKeyList()) {
+                        objectTypeKeys.add(Arrays.asList(
+                                toSet(objectTypeKey.getFieldNames()),
+                                toSet(objectTypeKey.getStandardIdentifiers())));
+                    }
+                }
+                keys.put(keyMap.getName(), objectTypeKeys);
+            }
+        }
+        return keys;
+    }
+
+    private static Set<String> toSet(final Collection<String> values) {
+        return values == null ? Collections.emptySet() : new HashSet<>(values);
+    }
+}
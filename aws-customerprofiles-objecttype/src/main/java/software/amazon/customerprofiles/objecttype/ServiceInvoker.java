@@ -0,0 +1,239 @@
+package software.amazon.customerprofiles.objecttype;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Sends Customer Profiles calls through the CloudFormation proxy, retrying throttled calls inside the handler
+ * instead of failing the stack operation.
+ *
+ * Retries back off with decorrelated jitter: each delay is picked at random between the base delay and three times
+ * the previous delay, capped at the maximum delay. A call gives up after the configured number of attempts, or when
+ * the next delay would run past the time budget. The budget is shared by every call of a handler invocation: it
+ * starts at {@link #startInvocation()}, which each handler calls first, and a call made outside an invocation gets a
+ * budget of its own. The handler cannot see the Lambda remaining time, so keep the budget below the handler timeout.
+ * Every retry also takes tokens from a bucket shared by the whole process, and successful calls put tokens back, so
+ * when the service keeps throttling, concurrent calls stop retrying instead of adding load.
+ *
+ * This sits on top of the SDK client's own short retries. Every call, retried or not, is reported once through
+ * {@link CallMetrics}, with its throttles and the time spent backing off.
+ */
+final class ServiceInvoker {
+
+    static final String MAX_ATTEMPTS_ENV = "CUSTOMER_PROFILES_RETRY_MAX_ATTEMPTS";
+    static final String BASE_DELAY_MILLIS_ENV = "CUSTOMER_PROFILES_RETRY_BASE_DELAY_MILLIS";
+    static final String MAX_DELAY_MILLIS_ENV = "CUSTOMER_PROFILES_RETRY_MAX_DELAY_MILLIS";
+    static final String TIME_BUDGET_MILLIS_ENV = "CUSTOMER_PROFILES_RETRY_TIME_BUDGET_MILLIS";
+    private static final long DEFAULT_MAX_ATTEMPTS = 5;
+    private static final long DEFAULT_BASE_DELAY_MILLIS = 100;
+    private static final long DEFAULT_MAX_DELAY_MILLIS = 5000;
+    private static final long DEFAULT_TIME_BUDGET_MILLIS = 20000;
+
+    static final int RETRY_QUOTA = 500;
+    static final int RETRY_COST = 5;
+    static final int SUCCESS_REFUND = 1;
+
+    private static final ThreadLocal<Long> INVOCATION_DEADLINE = new ThreadLocal<>();
+
+    private static final ServiceInvoker INSTANCE = new ServiceInvoker(
+            longFromEnv(MAX_ATTEMPTS_ENV, DEFAULT_MAX_ATTEMPTS),
+            longFromEnv(BASE_DELAY_MILLIS_ENV, DEFAULT_BASE_DELAY_MILLIS),
+            longFromEnv(MAX_DELAY_MILLIS_ENV, DEFAULT_MAX_DELAY_MILLIS),
+            longFromEnv(TIME_BUDGET_MILLIS_ENV, DEFAULT_TIME_BUDGET_MILLIS),
+            new TokenBucket(RETRY_QUOTA),
+            Thread::sleep,
+            CallMetrics.INSTANCE);
+
+    private final long maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final long timeBudgetMillis;
+    private final TokenBucket retryQuota;
+    private final Sleeper sleeper;
+    private final CallMetrics metrics;
+
+    ServiceInvoker(final long maxAttempts,
+                   final long baseDelayMillis,
+                   final long maxDelayMillis,
+                   final long timeBudgetMillis,
+                   final TokenBucket retryQuota,
+                   final Sleeper sleeper) {
+        this(maxAttempts, baseDelayMillis, maxDelayMillis, timeBudgetMillis, retryQuota, sleeper, CallMetrics.INSTANCE);
+    }
+
+    ServiceInvoker(final long maxAttempts,
+                   final long baseDelayMillis,
+                   final long maxDelayMillis,
+                   final long timeBudgetMillis,
+                   final TokenBucket retryQuota,
+                   final Sleeper sleeper,
+                   final CallMetrics metrics) {
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.baseDelayMillis = Math.max(baseDelayMillis, 0);
+        this.maxDelayMillis = Math.max(maxDelayMillis, this.baseDelayMillis);
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.retryQuota = retryQuota;
+        this.sleeper = sleeper;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Starts the time budget of a handler invocation on this thread. Calls made before {@link #endInvocation()} give
+     * up retrying once it has run out, however much of it earlier calls used.
+     */
+    static void startInvocation() {
+        startInvocation(INSTANCE.timeBudgetMillis);
+    }
+
+    static void startInvocation(final long timeBudgetMillis) {
+        INVOCATION_DEADLINE.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis));
+    }
+
+    static void endInvocation() {
+        INVOCATION_DEADLINE.remove();
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} deadline of the invocation running on this thread, or null outside one
+     */
+    static Long getInvocationDeadline() {
+        return INVOCATION_DEADLINE.get();
+    }
+
+    /**
+     * Makes the calls on this thread share {@code deadlineNanos}, as returned by {@link #getInvocationDeadline()}.
+     */
+    static void setInvocationDeadline(final Long deadlineNanos) {
+        if (deadlineNanos == null) {
+            INVOCATION_DEADLINE.remove();
+        } else {
+            INVOCATION_DEADLINE.set(deadlineNanos);
+        }
+    }
+
+    /**
+     * Drop-in replacement for {@link AmazonWebServicesClientProxy#injectCredentialsAndInvokeV2} that retries
+     * throttled calls. Any other exception, and the last ThrottlingException once retries run out, reach the caller
+     * unchanged.
+     */
+    static <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT invoke(
+            final AmazonWebServicesClientProxy proxy,
+            final RequestT request,
+            final Function<RequestT, ResponseT> call) {
+        return INSTANCE.call(proxy, request, call);
+    }
+
+    <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT call(
+            final AmazonWebServicesClientProxy proxy,
+            final RequestT request,
+            final Function<RequestT, ResponseT> call) {
+        final long startNanos = System.nanoTime();
+        final long deadline = deadline(startNanos);
+        long delayMillis = baseDelayMillis;
+        long attempt = 0;
+        long retryDelayMillis = 0;
+        try {
+            while (true) {
+                attempt++;
+                try {
+                    final ResponseT response = proxy.injectCredentialsAndInvokeV2(request, call);
+                    retryQuota.release(attempt == 1 ? SUCCESS_REFUND : RETRY_COST);
+                    metrics.recordSuccess(request, attempt, retryDelayMillis, startNanos, response);
+                    return response;
+                } catch (ThrottlingException e) {
+                    delayMillis = nextDelayMillis(delayMillis);
+                    if (attempt >= maxAttempts
+                            || deadline - System.nanoTime() < TimeUnit.MILLISECONDS.toNanos(delayMillis)
+                            || !retryQuota.tryAcquire(RETRY_COST)) {
+                        throw e;
+                    }
+                    retryDelayMillis += delayMillis;
+                    try {
+                        sleeper.sleep(delayMillis);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        throw e;
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            metrics.recordFailure(request, attempt, retryDelayMillis, startNanos, e);
+            throw e;
+        }
+    }
+
+    private long nextDelayMillis(final long previousDelayMillis) {
+        final long upper = Math.max(previousDelayMillis * 3, baseDelayMillis);
+        final long delay = upper > baseDelayMillis
+                ? ThreadLocalRandom.current().nextLong(baseDelayMillis, upper + 1)
+                : baseDelayMillis;
+        return Math.min(delay, maxDelayMillis);
+    }
+
+    /**
+     * @return the end of the call's own budget, or of the invocation's budget when that comes first
+     */
+    private long deadline(final long startNanos) {
+        final long callDeadline = startNanos + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        final Long invocationDeadline = INVOCATION_DEADLINE.get();
+        return invocationDeadline != null && invocationDeadline - callDeadline < 0 ? invocationDeadline : callDeadline;
+    }
+
+    private static long longFromEnv(final String name, final long defaultValue) {
+        final String value = System.getenv(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    /**
+     * Retry quota: retries take tokens, successful calls return them, never above the capacity.
+     */
+    static final class TokenBucket {
+
+        private final int capacity;
+        private final AtomicInteger tokens;
+
+        TokenBucket(final int capacity) {
+            this.capacity = capacity;
+            this.tokens = new AtomicInteger(capacity);
+        }
+
+        boolean tryAcquire(final int cost) {
+            while (true) {
+                final int available = tokens.get();
+                if (available < cost) {
+                    return false;
+                }
+                if (tokens.compareAndSet(available, available - cost)) {
+                    return true;
+                }
+            }
+        }
+
+        void release(final int amount) {
+            tokens.accumulateAndGet(amount, (available, refund) -> Math.min(capacity, available + refund));
+        }
+
+        int available() {
+            return tokens.get();
+        }
+    }
+}
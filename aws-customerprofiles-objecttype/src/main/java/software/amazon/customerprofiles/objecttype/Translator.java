@@ -1,19 +1,21 @@
 package software.amazon.customerprofiles.objecttype;
 
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypeItem;
+import software.amazon.awssdk.services.customerprofiles.model.PutProfileObjectTypeRequest;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 public class Translator {
 
-    static String ARN_FORMAT = "arn:%s:profile:%s:%s:domains/%s/object-types/%s";
-
     static String toProfileObjectTypeARN(final ResourceHandlerRequest<ResourceModel> request) {
-        return String.format(ARN_FORMAT, request.getAwsPartition(), request.getRegion(), request.getAwsAccountId(),
+        return ProfileArn.objectType(request.getAwsPartition(), request.getRegion(), request.getAwsAccountId(),
                 request.getDesiredResourceState().getDomainName(), request.getDesiredResourceState().getObjectTypeName());
     }
 
@@ -21,11 +23,53 @@ public class Translator {
         if (tags.isEmpty()) {
             return null;
         }
-        return tags.entrySet().stream()
-                .map(t -> Tag.builder()
-                        .key(t.getKey())
-                        .value(t.getValue()).build())
-                .collect(Collectors.toList());
+        final List<Tag> tagList = new ArrayList<>(tags.size());
+        tags.forEach((key, value) -> tagList.add(Tag.builder()
+                .key(key)
+                .value(value).build()));
+        return tagList;
+    }
+
+    /**
+     * Converts the listed object types to resource models once, into a list sized for the page. The handler response is
+     * read more than once on its way out, so a lazy view would convert every item again on each pass.
+     */
+    static List<ResourceModel> translateFromListItems(final String domainName,
+                                                      final List<ListProfileObjectTypeItem> items) {
+        final List<ResourceModel> models = new ArrayList<>(items.size());
+        for (final ListProfileObjectTypeItem item : items) {
+            models.add(translateFromListItem(domainName, item));
+        }
+        return models;
+    }
+
+    private static ResourceModel translateFromListItem(final String domainName, final ListProfileObjectTypeItem item) {
+        return ResourceModel.builder()
+                .domainName(domainName)
+                .createdAt(item.createdAt().toString())
+                .description(item.description())
+                .lastUpdatedAt(item.lastUpdatedAt().toString())
+                .objectTypeName(item.objectTypeName())
+                .tags(mapTagsToList(item.tags()))
+                .build();
+    }
+
+    static ResourceModel translateFromGetResponse(final String domainName,
+                                                  final GetProfileObjectTypeResponse response) {
+        return ResourceModel.builder()
+                .domainName(domainName)
+                .allowProfileCreation(response.allowProfileCreation())
+                .createdAt(response.createdAt().toString())
+                .description(response.description())
+                .encryptionKey(response.encryptionKey())
+                .expirationDays(response.expirationDays())
+                .fields(mapFieldsToList(response.fields()))
+                .keys(mapKeysToList(response.keys()))
+                .lastUpdatedAt(response.lastUpdatedAt().toString())
+                .objectTypeName(response.objectTypeName())
+                .tags(mapTagsToList(response.tags()))
+                .templateId(response.templateId())
+                .build();
     }
 
     static Map<String, software.amazon.awssdk.services.customerprofiles.model.ObjectTypeField> listFieldsToMap(List<FieldMap> fieldMaps) {
@@ -46,7 +90,7 @@ public class Translator {
             return null;
         }
 
-        List<FieldMap> fieldMaps = new ArrayList<>();
+        List<FieldMap> fieldMaps = new ArrayList<>(mapField.size());
         mapField.forEach((name, objectTypeField) -> fieldMaps.add(FieldMap.builder()
                 .name(name)
                 .objectTypeField(ObjectTypeField.builder()
@@ -82,10 +126,10 @@ public class Translator {
         if (mapKey.isEmpty()) {
             return null;
         }
-        List<KeyMap> keyMaps = new ArrayList<>();
+        List<KeyMap> keyMaps = new ArrayList<>(mapKey.size());
         for (Map.Entry<String, List<software.amazon.awssdk.services.customerprofiles.model.ObjectTypeKey>> keyEntry : mapKey.entrySet()) {
             String name = keyEntry.getKey();
-            List<ObjectTypeKey> objectTypeKeyList = new ArrayList<>();
+            List<ObjectTypeKey> objectTypeKeyList = new ArrayList<>(keyEntry.getValue().size());
             for (software.amazon.awssdk.services.customerprofiles.model.ObjectTypeKey objectTypeKey : keyEntry.getValue()) {
                 objectTypeKeyList.add(ObjectTypeKey.builder()
                         .fieldNames(objectTypeKey.fieldNames())
@@ -99,4 +143,23 @@ public class Translator {
         }
         return keyMaps;
     }
+
+    /**
+     * Whether an existing object type already has everything the Put request would write, tags included.
+     * Missing and empty collections are treated alike, because the service omits empty ones from its responses.
+     */
+    static boolean isUpToDate(PutProfileObjectTypeRequest putRequest, GetProfileObjectTypeResponse current) {
+        return Objects.equals(putRequest.allowProfileCreation(), current.allowProfileCreation())
+                && Objects.equals(putRequest.description(), current.description())
+                && Objects.equals(putRequest.encryptionKey(), current.encryptionKey())
+                && Objects.equals(putRequest.expirationDays(), current.expirationDays())
+                && Objects.equals(putRequest.templateId(), current.templateId())
+                && Objects.equals(nullToEmpty(putRequest.fields()), nullToEmpty(current.fields()))
+                && Objects.equals(nullToEmpty(putRequest.keys()), nullToEmpty(current.keys()))
+                && Objects.equals(nullToEmpty(putRequest.tags()), nullToEmpty(current.tags()));
+    }
+
+    private static <K, V> Map<K, V> nullToEmpty(Map<K, V> map) {
+        return map == null ? Collections.emptyMap() : map;
+    }
 }
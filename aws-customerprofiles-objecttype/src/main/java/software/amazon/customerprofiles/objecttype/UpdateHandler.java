@@ -1,28 +1,17 @@
 package software.amazon.customerprofiles.objecttype;
 
-import com.google.common.collect.Lists;
 import lombok.NoArgsConstructor;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
-import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
-import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeRequest;
-import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeResponse;
 import software.amazon.awssdk.services.customerprofiles.model.PutProfileObjectTypeRequest;
 import software.amazon.awssdk.services.customerprofiles.model.PutProfileObjectTypeResponse;
-import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.customerprofiles.model.UntagResourceRequest;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @NoArgsConstructor
 public class UpdateHandler extends BaseHandler<CallbackContext> {
@@ -40,48 +29,44 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        CallMetrics.setHandler(getClass().getSimpleName());
+        final HandlerLogger log = HandlerLogger.of(logger);
         if (this.client == null) {
-            this.client = ClientBuilder.getClient();
+            this.client = ClientBuilder.getClient(request.getRegion());
         }
 
-        final ResourceModel model = request.getDesiredResourceState();
-
-        final GetProfileObjectTypeRequest getProfileObjectTypeRequest = GetProfileObjectTypeRequest.builder()
-                .domainName(model.getDomainName())
-                .objectTypeName(model.getObjectTypeName())
-                .build();
-
-        // If this objectType is never created, can not be updated
+        ServiceInvoker.startInvocation();
         try {
-            proxy.injectCredentialsAndInvokeV2(getProfileObjectTypeRequest, client::getProfileObjectType);
-            logger.log(String.format("Get Domain with domainName = %s",
-                    model.getDomainName()));
-        } catch (BadRequestException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
-        } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
+            return update(proxy, request, log);
+        } finally {
+            ServiceInvoker.endInvocation();
+            CallMetrics.clearHandler();
         }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> update(final AmazonWebServicesClientProxy proxy,
+                                                                 final ResourceHandlerRequest<ResourceModel> request,
+                                                                 final HandlerLogger log) {
+        final ResourceModel model = request.getDesiredResourceState();
 
-        final List<Tag> previousTags = request.getPreviousResourceTags() == null ? Lists.newArrayList() :
-                Translator.mapTagsToList(request.getPreviousResourceTags());
-
-        if (previousTags != null) {
-            final List<String> tagsToRemove = previousTags.stream()
-                    .map(Tag::getKey)
-                    .collect(Collectors.toList());
-
-            // Remove previous tags
-            if (tagsToRemove.size() > 0) {
-                final UntagResourceRequest untagResourceRequest = UntagResourceRequest.builder()
-                        .resourceArn(Translator.toProfileObjectTypeARN(request))
-                        .tagKeys(tagsToRemove)
-                        .build();
-                proxy.injectCredentialsAndInvokeV2(untagResourceRequest, client::untagResource);
+        // When only tags can have changed, apply the tag delta without rewriting the resource
+        if (request.getPreviousResourceState() != null
+                && ResourceModelDiff.changedProperties(request.getPreviousResourceState(), model).isEmpty()) {
+            try {
+                TagHelper.updateTags(proxy, client, Translator.toProfileObjectTypeARN(request),
+                        request.getPreviousResourceTags(), request.getDesiredResourceTags());
+            } catch (Exception e) {
+                throw ExceptionTranslator.translate(e);
+            } finally {
+                // The cached Get response carries the old tags, even if only part of the delta was applied
+                ObjectTypeCache.invalidate(request);
             }
+            log.info(() -> String.format(
+                    "ProfileObjectType with domainName = %s, objectTypeName = %s has no changes other than tags",
+                    model.getDomainName(), model.getObjectTypeName()));
+            model.setCreatedAt(request.getPreviousResourceState().getCreatedAt());
+            model.setLastUpdatedAt(request.getPreviousResourceState().getLastUpdatedAt());
+            return ProgressEvent.defaultSuccessHandler(model);
         }
 
         final Map<String, String> resourceTag;
@@ -105,19 +90,43 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
                 .templateId(model.getTemplateId())
                 .build();
 
+        // If this objectType is never created, can not be updated
+        final GetProfileObjectTypeResponse getProfileObjectTypeResponse;
+        try {
+            getProfileObjectTypeResponse = ObjectTypeCache.get(proxy, client, request);
+            log.info(() -> String.format("Get ProfileObjectType with domainName = %s, objectTypeName = %s",
+                    model.getDomainName(), model.getObjectTypeName()));
+        } catch (Exception e) {
+            throw ExceptionTranslator.translate(e);
+        }
+
+        // Nothing to write if the object type already matches the desired state
+        if (Translator.isUpToDate(putProfileObjectTypeRequest, getProfileObjectTypeResponse)) {
+            log.info(() -> String.format(
+                    "ProfileObjectType with domainName = %s, objectTypeName = %s is up to date",
+                    model.getDomainName(), model.getObjectTypeName()));
+            return ProgressEvent.defaultSuccessHandler(
+                    Translator.translateFromGetResponse(model.getDomainName(), getProfileObjectTypeResponse));
+        }
+
         final PutProfileObjectTypeResponse putProfileObjectTypeResponse;
         try {
-            putProfileObjectTypeResponse = proxy.injectCredentialsAndInvokeV2(putProfileObjectTypeRequest, client::putProfileObjectType);
-            logger.log(String.format("Update ProfileObjectType with domainName = %s, objectTypeName = %s",
+            putProfileObjectTypeResponse = ServiceInvoker.invoke(proxy, putProfileObjectTypeRequest, client::putProfileObjectType);
+            ObjectTypeCache.invalidate(request);
+            log.info(() -> String.format("Update ProfileObjectType with domainName = %s, objectTypeName = %s",
                     model.getDomainName(), model.getObjectTypeName()));
-        } catch (BadRequestException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
-        } catch (InternalServerException e) {
-            throw new CfnServiceInternalErrorException(e);
         } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
+            throw ExceptionTranslator.translate(e);
+        }
+
+        // The write above already carried the desired tags, so only keys that are no longer wanted need removing
+        try {
+            TagHelper.removeTags(proxy, client, Translator.toProfileObjectTypeARN(request),
+                    request.getPreviousResourceTags(), request.getDesiredResourceTags());
+        } catch (Exception e) {
+            throw ExceptionTranslator.translate(e);
+        } finally {
+            ObjectTypeCache.invalidate(request);
         }
 
         final ResourceModel responseModel = ResourceModel.builder()
@@ -16,10 +16,10 @@ import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundEx
 import software.amazon.awssdk.services.customerprofiles.model.StandardIdentifier;
 import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -39,6 +39,8 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest {
@@ -78,6 +80,7 @@ public class CreateHandlerTest {
 
     @BeforeEach
     public void setup() {
+        ObjectTypeCache.setTtlSeconds(0);
         proxy = Mockito.mock(AmazonWebServicesClientProxy.class);
         customerProfilesClient = Mockito.mock(CustomerProfilesClient.class);
         logger = Mockito.mock(Logger.class);
@@ -264,6 +267,39 @@ public class CreateHandlerTest {
         assertThrows(CfnAlreadyExistsException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
 
+    @Test
+    public void handleRequest_cachedAsExisting_checkedWithService() {
+        ObjectTypeCache.setTtlSeconds(5);
+        final CreateHandler handler = new CreateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(ACCOUNT_ID)
+                .region("us-east-1")
+                .desiredResourceState(model)
+                .build();
+
+        final PutProfileObjectTypeResponse result = PutProfileObjectTypeResponse.builder()
+                .createdAt(TIME)
+                .lastUpdatedAt(TIME)
+                .objectTypeName(OBJECT_TYPE_NAME)
+                .build();
+
+        // An earlier update cached the object type, which has been deleted since
+        Mockito.doReturn(GetProfileObjectTypeResponse.builder().objectTypeName(OBJECT_TYPE_NAME).build())
+                .doThrow(ResourceNotFoundException.builder().message("ResourceNotFoundException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+        ObjectTypeCache.get(proxy, customerProfilesClient, request);
+
+        Mockito.doReturn(result).when(proxy).injectCredentialsAndInvokeV2(
+                any(PutProfileObjectTypeRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getObjectTypeName()).isEqualTo(OBJECT_TYPE_NAME);
+    }
+
     @Test
     public void handleRequest_BadRequestException() {
         final CreateHandler handler = new CreateHandler(customerProfilesClient);
@@ -275,14 +311,12 @@ public class CreateHandlerTest {
         Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
                 any(GetProfileObjectTypeRequest.class), any());
 
-        Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
-                any(PutProfileObjectTypeRequest.class), any());
-
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(model)
                 .build();
 
         assertThrows(CfnInvalidRequestException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(PutProfileObjectTypeRequest.class), any());
     }
 
     @Test
@@ -296,14 +330,12 @@ public class CreateHandlerTest {
         Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
                 any(GetProfileObjectTypeRequest.class), any());
 
-        Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
-                any(PutProfileObjectTypeRequest.class), any());
-
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(model)
                 .build();
 
         assertThrows(CfnServiceInternalErrorException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(PutProfileObjectTypeRequest.class), any());
     }
 
     @Test
@@ -328,7 +360,7 @@ public class CreateHandlerTest {
     }
 
     @Test
-    public void handleRequest_otherException() {
+    public void handleRequest_ThrottlingException() {
         final CreateHandler handler = new CreateHandler(customerProfilesClient);
 
         ThrottlingException exc = ThrottlingException.builder()
@@ -338,13 +370,11 @@ public class CreateHandlerTest {
         Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
                 any(GetProfileObjectTypeRequest.class), any());
 
-        Mockito.doThrow(exc).when(proxy).injectCredentialsAndInvokeV2(
-                any(PutProfileObjectTypeRequest.class), any());
-
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(model)
                 .build();
 
-        assertThrows(CfnGeneralServiceException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        assertThrows(CfnThrottlingException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(PutProfileObjectTypeRequest.class), any());
     }
 }
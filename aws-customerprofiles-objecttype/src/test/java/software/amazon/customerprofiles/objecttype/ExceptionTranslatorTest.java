@@ -0,0 +1,68 @@
+package software.amazon.customerprofiles.objecttype;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.customerprofiles.model.AccessDeniedException;
+import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
+import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
+import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExceptionTranslatorTest {
+
+    private static Stream<Arguments> translations() {
+        return Stream.of(
+                Arguments.of(BadRequestException.builder().build(), CfnInvalidRequestException.class),
+                Arguments.of(AccessDeniedException.builder().build(), CfnAccessDeniedException.class),
+                Arguments.of(ResourceNotFoundException.builder().build(), CfnNotFoundException.class),
+                Arguments.of(ThrottlingException.builder().build(), CfnThrottlingException.class),
+                Arguments.of(InternalServerException.builder().build(), CfnServiceInternalErrorException.class),
+                Arguments.of(SdkClientException.builder().build(), CfnGeneralServiceException.class),
+                Arguments.of(new IllegalStateException(), CfnGeneralServiceException.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource("translations")
+    public void translate_mapsServiceException(final Exception e,
+                                               final Class<? extends BaseHandlerException> expected) {
+        final BaseHandlerException translated = ExceptionTranslator.translate(e);
+
+        assertThat(translated).isExactlyInstanceOf(expected);
+        assertThat(translated.getCause()).isSameAs(e);
+    }
+
+    @Test
+    public void translate_subclass_usesClosestMappedSuperclass() {
+        final IllegalStateException e = new IllegalStateException();
+
+        final BaseHandlerException translated = ExceptionTranslator.translate(e, ImmutableMap.of(
+                Exception.class, CfnAccessDeniedException::new,
+                RuntimeException.class, CfnInvalidRequestException::new));
+
+        assertThat(translated).isExactlyInstanceOf(CfnInvalidRequestException.class);
+        assertThat(translated.getCause()).isSameAs(e);
+    }
+
+    @Test
+    public void translate_handlerException_passesThrough() {
+        final CfnAlreadyExistsException e = new CfnAlreadyExistsException(BadRequestException.builder().build());
+
+        assertThat(ExceptionTranslator.translate(e)).isSameAs(e);
+    }
+}
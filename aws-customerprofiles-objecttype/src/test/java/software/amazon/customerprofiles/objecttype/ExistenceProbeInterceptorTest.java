@@ -0,0 +1,89 @@
+package software.amazon.customerprofiles.objecttype;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExistenceProbeInterceptorTest {
+
+    private static final byte[] NOT_FOUND_BODY =
+            "{\"Message\":\"not found\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final ExistenceProbeInterceptor interceptor = new ExistenceProbeInterceptor();
+
+    @Test
+    public void probe_notFound_rewrittenToEmptyAbsentResponse() throws Exception {
+        final ExecutionAttributes attributes = new ExecutionAttributes();
+        ExistenceProbeInterceptor.probing(() -> {
+            interceptor.beforeExecution(Mockito.mock(Context.BeforeExecution.class), attributes);
+            return null;
+        });
+
+        final SdkHttpResponse modified = interceptor.modifyHttpResponse(context(404), attributes);
+        final Optional<InputStream> body = interceptor.modifyHttpResponseContent(context(modified), attributes);
+
+        assertThat(modified.statusCode()).isEqualTo(200);
+        assertThat(modified.firstMatchingHeader(ExistenceProbeInterceptor.ABSENT_HEADER)).isPresent();
+        assertThat(body).isPresent();
+        final byte[] content = new byte[16];
+        final int read = body.get().read(content);
+        assertThat(new String(content, 0, read, StandardCharsets.UTF_8)).isEqualTo("{}");
+    }
+
+    @Test
+    public void probe_found_untouched() {
+        final ExecutionAttributes attributes = new ExecutionAttributes();
+        ExistenceProbeInterceptor.probing(() -> {
+            interceptor.beforeExecution(Mockito.mock(Context.BeforeExecution.class), attributes);
+            return null;
+        });
+        final Context.ModifyHttpResponse context = context(200);
+
+        final SdkHttpResponse modified = interceptor.modifyHttpResponse(context, attributes);
+
+        assertThat(modified).isSameAs(context.httpResponse());
+        assertThat(interceptor.modifyHttpResponseContent(context, attributes)).isSameAs(context.responseBody());
+    }
+
+    @Test
+    public void otherCall_notFound_untouched() {
+        final ExecutionAttributes attributes = new ExecutionAttributes();
+        interceptor.beforeExecution(Mockito.mock(Context.BeforeExecution.class), attributes);
+        final Context.ModifyHttpResponse context = context(404);
+
+        final SdkHttpResponse modified = interceptor.modifyHttpResponse(context, attributes);
+
+        assertThat(modified.statusCode()).isEqualTo(404);
+        assertThat(interceptor.modifyHttpResponseContent(context, attributes)).isSameAs(context.responseBody());
+    }
+
+    @Test
+    public void probing_clearedAfterCall() {
+        ExistenceProbeInterceptor.probing(() -> null);
+        final ExecutionAttributes attributes = new ExecutionAttributes();
+        interceptor.beforeExecution(Mockito.mock(Context.BeforeExecution.class), attributes);
+
+        assertThat(interceptor.modifyHttpResponse(context(404), attributes).statusCode()).isEqualTo(404);
+    }
+
+    private static Context.ModifyHttpResponse context(final int statusCode) {
+        return context(SdkHttpResponse.builder().statusCode(statusCode).build());
+    }
+
+    private static Context.ModifyHttpResponse context(final SdkHttpResponse response) {
+        final Context.ModifyHttpResponse context = Mockito.mock(Context.ModifyHttpResponse.class);
+        final Optional<InputStream> body = Optional.of(new ByteArrayInputStream(NOT_FOUND_BODY));
+        Mockito.doReturn(response).when(context).httpResponse();
+        Mockito.doReturn(body).when(context).responseBody();
+        return context;
+    }
+}
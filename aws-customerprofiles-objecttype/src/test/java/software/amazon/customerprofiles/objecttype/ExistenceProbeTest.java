@@ -0,0 +1,83 @@
+package software.amazon.customerprofiles.objecttype;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeResponse;
+import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
+import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+public class ExistenceProbeTest {
+
+    private AmazonWebServicesClientProxy proxy;
+    private CustomerProfilesClient customerProfilesClient;
+    private GetProfileObjectTypeRequest request;
+
+    @BeforeEach
+    public void setup() {
+        proxy = Mockito.mock(AmazonWebServicesClientProxy.class);
+        customerProfilesClient = Mockito.mock(CustomerProfilesClient.class);
+        request = GetProfileObjectTypeRequest.builder()
+                .domainName("testDomainName")
+                .build();
+    }
+
+    @Test
+    public void probe_response_exists() {
+        final GetProfileObjectTypeResponse response = GetProfileObjectTypeResponse.builder().build();
+        Mockito.doReturn(response).when(proxy).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+
+        final ExistenceProbe<GetProfileObjectTypeResponse> probe =
+                ExistenceProbe.probe(proxy, request, customerProfilesClient::getProfileObjectType);
+
+        assertThat(probe.status()).isEqualTo(ExistenceProbe.Status.EXISTS);
+        assertThat(probe.response()).isSameAs(response);
+        assertThat(probe.error()).isNull();
+    }
+
+    @Test
+    public void probe_absentMarker_absent() {
+        final GetProfileObjectTypeResponse.Builder builder = GetProfileObjectTypeResponse.builder();
+        builder.sdkHttpResponse(SdkHttpResponse.builder()
+                .statusCode(200)
+                .putHeader(ExistenceProbeInterceptor.ABSENT_HEADER, "true")
+                .build());
+        Mockito.doReturn(builder.build()).when(proxy).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+
+        final ExistenceProbe<GetProfileObjectTypeResponse> probe =
+                ExistenceProbe.probe(proxy, request, customerProfilesClient::getProfileObjectType);
+
+        assertThat(probe.status()).isEqualTo(ExistenceProbe.Status.ABSENT);
+        assertThat(probe.response()).isNull();
+    }
+
+    @Test
+    public void probe_resourceNotFound_absent() {
+        Mockito.doThrow(ResourceNotFoundException.builder().build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+
+        final ExistenceProbe<GetProfileObjectTypeResponse> probe =
+                ExistenceProbe.probe(proxy, request, customerProfilesClient::getProfileObjectType);
+
+        assertThat(probe.status()).isEqualTo(ExistenceProbe.Status.ABSENT);
+    }
+
+    @Test
+    public void probe_serviceError_unknown() {
+        final InternalServerException error = InternalServerException.builder().build();
+        Mockito.doThrow(error).when(proxy).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+
+        final ExistenceProbe<GetProfileObjectTypeResponse> probe =
+                ExistenceProbe.probe(proxy, request, customerProfilesClient::getProfileObjectType);
+
+        assertThat(probe.status()).isEqualTo(ExistenceProbe.Status.UNKNOWN);
+        assertThat(probe.error()).isSameAs(error);
+    }
+}
@@ -0,0 +1,207 @@
+package software.amazon.customerprofiles.objecttype;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.exceptions.CfnNotFoundException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FanOutTest {
+
+    private static final List<Integer> INPUTS = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8);
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void invokeAll_resultsInInputOrder() {
+        final List<Integer> results = new FanOut(4, executor).invokeAll(INPUTS, input -> {
+            sleep(10 - input);
+            return input * 10;
+        });
+
+        assertThat(results).containsExactly(10, 20, 30, 40, 50, 60, 70, 80);
+    }
+
+    @Test
+    public void invokeAll_neverMoreThanConcurrency() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger mostRunning = new AtomicInteger();
+
+        new FanOut(3, executor).invokeAll(INPUTS, input -> {
+            mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(20);
+            running.decrementAndGet();
+            return input;
+        });
+
+        assertThat(mostRunning.get()).isBetween(1, 3);
+    }
+
+    @Test
+    public void invokeAll_failure_firstFailureThrown() {
+        final CfnNotFoundException notFound = new CfnNotFoundException(ResourceModel.TYPE_NAME, "3");
+
+        final CfnNotFoundException thrown = assertThrows(CfnNotFoundException.class,
+                () -> new FanOut(4, executor).invokeAll(INPUTS, input -> {
+                    if (input == 3) {
+                        throw notFound;
+                    }
+                    if (input == 5) {
+                        throw new IllegalStateException("5");
+                    }
+                    return input;
+                }));
+
+        assertThat(thrown).isSameAs(notFound);
+    }
+
+    @Test
+    public void invokeAll_concurrencyOne_runsOnCaller() {
+        final Thread caller = Thread.currentThread();
+
+        final List<Boolean> onCaller = new FanOut(1, executor)
+                .invokeAll(INPUTS, input -> Thread.currentThread() == caller);
+
+        assertThat(onCaller).containsOnly(true);
+    }
+
+    @Test
+    public void invokeAll_carriesHandler() {
+        CallMetrics.setHandler("ListHandler");
+
+        final List<String> handlers = new FanOut(4, executor).invokeAll(INPUTS, input -> CallMetrics.getHandler());
+
+        assertThat(handlers).containsOnly("ListHandler");
+    }
+
+    @Test
+    public void invokeAll_carriesInvocationDeadline() {
+        ServiceInvoker.startInvocation(60_000);
+        try {
+            final Long deadline = ServiceInvoker.getInvocationDeadline();
+
+            final List<Long> deadlines = new FanOut(4, executor)
+                    .invokeAll(INPUTS, input -> ServiceInvoker.getInvocationDeadline());
+
+            assertThat(deadlines).containsOnly(deadline);
+        } finally {
+            ServiceInvoker.endInvocation();
+        }
+    }
+
+    @Test
+    public void invokeAll_pooledThreadGetsItsOwnValuesBack() throws Exception {
+        final ExecutorService pooled = Executors.newSingleThreadExecutor();
+        try {
+            pooled.submit(() -> CallMetrics.setHandler("ReadHandler")).get();
+            CallMetrics.setHandler("ListHandler");
+            ServiceInvoker.startInvocation(60_000);
+
+            new FanOut(2, pooled).invokeAll(Arrays.asList(1, 2), input -> input);
+
+            assertThat(pooled.submit(CallMetrics::getHandler).get()).isEqualTo("ReadHandler");
+            assertThat(pooled.submit(ServiceInvoker::getInvocationDeadline).get()).isNull();
+        } finally {
+            ServiceInvoker.endInvocation();
+            CallMetrics.clearHandler();
+            pooled.shutdownNow();
+        }
+    }
+
+    @Test
+    public void submitAll_deadlinePassed_notStartedTimeOut() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+
+        final List<CompletableFuture<Integer>> futures = new FanOut(2, executor).submitAll(INPUTS, input -> {
+            await(release);
+            return input;
+        }, deadline);
+
+        assertThat(System.nanoTime() - deadline).isNotNegative();
+        assertThat(futures).hasSize(INPUTS.size());
+        for (final CompletableFuture<Integer> late : futures.subList(2, INPUTS.size())) {
+            assertThat(late).isCompletedExceptionally();
+            assertThrows(TimeoutException.class, () -> {
+                try {
+                    late.join();
+                } catch (RuntimeException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+        release.countDown();
+    }
+
+    @Test
+    public void submitAll_deadlinePassed_runningCallsInterrupted() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(2);
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+
+        final List<CompletableFuture<Integer>> futures = new FanOut(2, executor).submitAll(INPUTS, input -> {
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return input;
+        }, deadline);
+
+        assertThat(futures.subList(0, 2)).allMatch(CompletableFuture::isCancelled);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void submitAll_inlineAfterDeadline_timesOut() {
+        final List<CompletableFuture<Integer>> futures = new FanOut(1, executor)
+                .submitAll(INPUTS, input -> input, System.nanoTime() - 1);
+
+        assertThat(futures).allMatch(CompletableFuture::isCompletedExceptionally);
+    }
+
+    @Test
+    public void concurrency_parsed() {
+        assertThat(FanOut.concurrency(" 16 ")).isEqualTo(16);
+        assertThat(FanOut.concurrency(null)).isEqualTo(8);
+        assertThat(FanOut.concurrency("0")).isEqualTo(8);
+        assertThat(FanOut.concurrency("all")).isEqualTo(8);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
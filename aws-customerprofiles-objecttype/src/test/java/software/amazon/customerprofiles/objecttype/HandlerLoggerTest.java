@@ -0,0 +1,79 @@
+package software.amazon.customerprofiles.objecttype;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class HandlerLoggerTest {
+
+    private Logger logger;
+    private AtomicInteger formatted;
+    private Supplier<String> message;
+
+    @BeforeEach
+    public void setup() {
+        logger = Mockito.mock(Logger.class);
+        formatted = new AtomicInteger();
+        message = () -> {
+            formatted.incrementAndGet();
+            return "message";
+        };
+    }
+
+    @Test
+    public void info_levelInfo_writesMessage() {
+        new HandlerLogger(logger, HandlerLogger.Level.INFO).info(message);
+
+        verify(logger).log("message");
+        assertThat(formatted.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void belowLevel_messageNeverBuilt() {
+        final HandlerLogger log = new HandlerLogger(logger, HandlerLogger.Level.WARN);
+
+        log.debug(message);
+        log.info(message);
+
+        verify(logger, never()).log(anyString());
+        assertThat(formatted.get()).isZero();
+    }
+
+    @Test
+    public void levelOff_writesNothing() {
+        final HandlerLogger log = new HandlerLogger(logger, HandlerLogger.Level.OFF);
+
+        log.warn(message);
+
+        assertThat(log.isEnabled(HandlerLogger.Level.OFF)).isFalse();
+        verify(logger, never()).log(anyString());
+    }
+
+    @Test
+    public void sampled_rateZero_keepsOnlyWarn() {
+        final HandlerLogger log = new HandlerLogger(logger, HandlerLogger.Level.DEBUG).sampled(0);
+
+        log.info(message);
+        log.warn(message);
+
+        verify(logger).log("message");
+        assertThat(formatted.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void sampled_rateOne_keepsLevel() {
+        final HandlerLogger log = new HandlerLogger(logger, HandlerLogger.Level.DEBUG);
+
+        assertThat(log.sampled(1)).isSameAs(log);
+        assertThat(log.isEnabled(HandlerLogger.Level.DEBUG)).isTrue();
+    }
+}
@@ -1,11 +1,15 @@
 package software.amazon.customerprofiles.objecttype;
 
 import com.google.common.collect.Lists;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
 import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeResponse;
 import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
 import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypeItem;
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypesRequest;
 import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypesResponse;
 import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
@@ -13,6 +17,7 @@ import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -29,6 +34,9 @@ import java.time.Instant;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest {
@@ -157,7 +165,7 @@ public class ListHandlerTest {
     }
 
     @Test
-    public void handleRequest_otherException() {
+    public void handleRequest_ThrottlingException() {
         final ListHandler handler = new ListHandler(customerProfilesClient);
 
         ThrottlingException exc = ThrottlingException.builder()
@@ -170,6 +178,255 @@ public class ListHandlerTest {
                 .desiredResourceState(model)
                 .build();
 
+        assertThrows(CfnThrottlingException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    @Test
+    public void handleRequest_multiplePages_drainsAllPages() {
+        final ListHandler handler = new ListHandler(customerProfilesClient, 10, 60000);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenReturn(page("testObjectTypeName1", "token1"),
+                        page("testObjectTypeName2", "token2"),
+                        page("testObjectTypeName3", null));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(3);
+        assertThat(response.getResourceModels().get(2).getObjectTypeName()).isEqualTo("testObjectTypeName3");
+        assertThat(response.getNextToken()).isNull();
+
+        final ArgumentCaptor<ListProfileObjectTypesRequest> captor =
+                ArgumentCaptor.forClass(ListProfileObjectTypesRequest.class);
+        verify(proxy, times(3)).injectCredentialsAndInvokeV2(captor.capture(), any());
+        assertThat(captor.getAllValues().get(0).nextToken()).isNull();
+        assertThat(captor.getAllValues().get(1).nextToken()).isEqualTo("token1");
+        assertThat(captor.getAllValues().get(2).nextToken()).isEqualTo("token2");
+    }
+
+    @Test
+    public void handleRequest_maxPagesReached_returnsNextToken() {
+        final ListHandler handler = new ListHandler(customerProfilesClient, 2, 60000);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .nextToken("token0")
+                .build();
+
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenReturn(page("testObjectTypeName1", "token1"),
+                        page("testObjectTypeName2", "token2"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getNextToken()).isEqualTo("token2");
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void handleRequest_timeBudgetExhausted_returnsNextToken() {
+        final ListHandler handler = new ListHandler(customerProfilesClient, 10, 0);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenReturn(page("testObjectTypeName1", "token1"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getNextToken()).isEqualTo("token1");
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void handleRequest_hydrate_returnsFullModels() {
+        final ListHandler handler = new ListHandler(customerProfilesClient, 1, 60000, true,
+                new FanOut(4, Runnable::run));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.doReturn(twoItemPage())
+                .when(proxy).injectCredentialsAndInvokeV2(any(ListProfileObjectTypesRequest.class), any());
+        Mockito.doAnswer(invocation -> details(invocation.<GetProfileObjectTypeRequest>getArgument(0)))
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getResourceModels().get(0).getObjectTypeName()).isEqualTo(OBJECT_TYPE_NAME_1);
+        assertThat(response.getResourceModels().get(0).getTemplateId()).isEqualTo(OBJECT_TYPE_NAME_1 + "Template");
+        assertThat(response.getResourceModels().get(1).getObjectTypeName()).isEqualTo(OBJECT_TYPE_NAME_2);
+        assertThat(response.getResourceModels().get(1).getExpirationDays()).isEqualTo(30);
+        assertThat(response.getResourceModels().get(1).getDomainName()).isEqualTo(DOMAIN_NAME);
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_hydrateNotFound_objectTypeLeftOut() {
+        final ListHandler handler = new ListHandler(customerProfilesClient, 1, 60000, true,
+                new FanOut(4, Runnable::run));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.doReturn(twoItemPage())
+                .when(proxy).injectCredentialsAndInvokeV2(any(ListProfileObjectTypesRequest.class), any());
+        Mockito.doAnswer(invocation -> {
+            final GetProfileObjectTypeRequest get = invocation.getArgument(0);
+            if (OBJECT_TYPE_NAME_2.equals(get.objectTypeName())) {
+                throw ResourceNotFoundException.builder().message("ResourceNotFoundException").build();
+            }
+            return details(get);
+        }).when(proxy).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getResourceModels().get(0).getObjectTypeName()).isEqualTo(OBJECT_TYPE_NAME_1);
+        assertThat(response.getResourceModels().get(0).getExpirationDays()).isEqualTo(30);
+    }
+
+    @Test
+    public void handleRequest_hydrateInternalServerException() {
+        final ListHandler handler = new ListHandler(customerProfilesClient, 1, 60000, true,
+                new FanOut(4, Runnable::run));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.doReturn(twoItemPage())
+                .when(proxy).injectCredentialsAndInvokeV2(any(ListProfileObjectTypesRequest.class), any());
+        Mockito.doThrow(InternalServerException.builder().message("InternalServerException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+
+        assertThrows(CfnServiceInternalErrorException.class,
+                () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    @Test
+    public void handleRequest_hydrateTimeBudgetSpent_returnsPageToken() {
+        final ListHandler handler = new ListHandler(customerProfilesClient, 10, 0, true,
+                new FanOut(4, Runnable::run));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .nextToken("token0")
+                .build();
+
+        Mockito.doReturn(twoItemPage())
+                .when(proxy).injectCredentialsAndInvokeV2(any(ListProfileObjectTypesRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEmpty();
+        assertThat(response.getNextToken()).isEqualTo("token0");
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_hydrateTimeBudgetSpentOnFirstPage_fails() {
+        final ListHandler handler = new ListHandler(customerProfilesClient, 10, 0, true,
+                new FanOut(4, Runnable::run));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.doReturn(twoItemPage())
+                .when(proxy).injectCredentialsAndInvokeV2(any(ListProfileObjectTypesRequest.class), any());
+
         assertThrows(CfnGeneralServiceException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_hydrateLaterPageOutOfTime_returnsItsToken() {
+        final ListHandler handler = new ListHandler(customerProfilesClient, 10, 100, true,
+                new FanOut(4, Runnable::run));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.doAnswer(invocation -> {
+            final ListProfileObjectTypesRequest list = invocation.getArgument(0);
+            if (list.nextToken() == null) {
+                return page(OBJECT_TYPE_NAME_1, "token1");
+            }
+            Thread.sleep(200);
+            return page(OBJECT_TYPE_NAME_2, "token2");
+        }).when(proxy).injectCredentialsAndInvokeV2(any(ListProfileObjectTypesRequest.class), any());
+        Mockito.doAnswer(invocation -> details(invocation.<GetProfileObjectTypeRequest>getArgument(0)))
+                .when(proxy).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getResourceModels().get(0).getObjectTypeName()).isEqualTo(OBJECT_TYPE_NAME_1);
+        assertThat(response.getResourceModels().get(0).getExpirationDays()).isEqualTo(30);
+        assertThat(response.getNextToken()).isEqualTo("token1");
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+    }
+
+    private static ListProfileObjectTypesResponse twoItemPage() {
+        return ListProfileObjectTypesResponse.builder()
+                .items(Lists.newArrayList(
+                        ListProfileObjectTypeItem.builder()
+                                .createdAt(TIME)
+                                .description(DESCRIPTION_1)
+                                .lastUpdatedAt(TIME)
+                                .objectTypeName(OBJECT_TYPE_NAME_1)
+                                .build(),
+                        ListProfileObjectTypeItem.builder()
+                                .createdAt(TIME)
+                                .description(DESCRIPTION_2)
+                                .lastUpdatedAt(TIME)
+                                .objectTypeName(OBJECT_TYPE_NAME_2)
+                                .build()))
+                .build();
+    }
+
+    private static GetProfileObjectTypeResponse details(final GetProfileObjectTypeRequest request) {
+        return GetProfileObjectTypeResponse.builder()
+                .createdAt(TIME)
+                .lastUpdatedAt(TIME)
+                .objectTypeName(request.objectTypeName())
+                .expirationDays(30)
+                .templateId(request.objectTypeName() + "Template")
+                .build();
+    }
+
+    private static ListProfileObjectTypesResponse page(final String name, final String nextToken) {
+        return ListProfileObjectTypesResponse.builder()
+                .items(Lists.newArrayList(ListProfileObjectTypeItem.builder()
+                        .createdAt(TIME)
+                        .lastUpdatedAt(TIME)
+                        .objectTypeName(name)
+                        .build()))
+                .nextToken(nextToken)
+                .build();
     }
 }
@@ -0,0 +1,101 @@
+package software.amazon.customerprofiles.objecttype;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ObjectTypeCacheTest {
+
+    private static final String DOMAIN_NAME = "testDomainName";
+    private static final String OBJECT_TYPE_NAME = "testObjectTypeName";
+
+    private AmazonWebServicesClientProxy proxy;
+    private CustomerProfilesClient customerProfilesClient;
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    @BeforeEach
+    public void setup() {
+        ObjectTypeCache.setTtlSeconds(5);
+        proxy = Mockito.mock(AmazonWebServicesClientProxy.class);
+        customerProfilesClient = Mockito.mock(CustomerProfilesClient.class);
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .desiredResourceState(ResourceModel.builder()
+                        .domainName(DOMAIN_NAME)
+                        .objectTypeName(OBJECT_TYPE_NAME)
+                        .build())
+                .build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ObjectTypeCache.setTtlSeconds(0);
+    }
+
+    @Test
+    public void get_repeatedLookup_servedFromCache() {
+        final GetProfileObjectTypeResponse getProfileObjectTypeResponse = GetProfileObjectTypeResponse.builder()
+                .objectTypeName(OBJECT_TYPE_NAME)
+                .build();
+        Mockito.doReturn(getProfileObjectTypeResponse).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetProfileObjectTypeRequest.class), any());
+
+        final GetProfileObjectTypeResponse first = ObjectTypeCache.get(proxy, customerProfilesClient, request);
+        final GetProfileObjectTypeResponse second = ObjectTypeCache.get(proxy, customerProfilesClient, request);
+
+        assertThat(first).isSameAs(getProfileObjectTypeResponse);
+        assertThat(second).isSameAs(getProfileObjectTypeResponse);
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+    }
+
+    @Test
+    public void get_afterInvalidate_callsService() {
+        Mockito.doReturn(GetProfileObjectTypeResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetProfileObjectTypeRequest.class), any());
+
+        ObjectTypeCache.get(proxy, customerProfilesClient, request);
+        ObjectTypeCache.invalidate(request);
+        ObjectTypeCache.get(proxy, customerProfilesClient, request);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+    }
+
+    @Test
+    public void get_serviceError_notCached() {
+        Mockito.doThrow(ResourceNotFoundException.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetProfileObjectTypeRequest.class), any());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> ObjectTypeCache.get(proxy, customerProfilesClient, request));
+        assertThrows(ResourceNotFoundException.class,
+                () -> ObjectTypeCache.get(proxy, customerProfilesClient, request));
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+    }
+
+    @Test
+    public void get_noTtl_alwaysCallsService() {
+        ObjectTypeCache.setTtlSeconds(0);
+        Mockito.doReturn(GetProfileObjectTypeResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetProfileObjectTypeRequest.class), any());
+
+        ObjectTypeCache.get(proxy, customerProfilesClient, request);
+        ObjectTypeCache.get(proxy, customerProfilesClient, request);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+    }
+}
@@ -0,0 +1,115 @@
+package software.amazon.customerprofiles.objecttype;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypeItem;
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypesRequest;
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypesResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ProfileObjectTypePaginatorTest {
+
+    private static final String DOMAIN_NAME = "testDomainName";
+
+    @Test
+    public void next_largeDomain_readsEveryPageOnce() {
+        final FakeService service = new FakeService(10000, 100);
+        final ProfileObjectTypePaginator paginator = new ProfileObjectTypePaginator(service, DOMAIN_NAME, null);
+
+        long items = 0;
+        while (paginator.hasNext()) {
+            items += paginator.next().items().size();
+        }
+
+        assertThat(items).isEqualTo(10000);
+        assertThat(service.requests).hasSize(100);
+        assertThat(service.requests.get(0).nextToken()).isNull();
+        assertThat(service.requests.get(1).nextToken()).isEqualTo("100");
+        assertThat(service.requests).allMatch(each -> DOMAIN_NAME.equals(each.domainName()));
+        assertThat(paginator.nextToken()).isNull();
+        assertThrows(NoSuchElementException.class, paginator::next);
+    }
+
+    @Test
+    public void next_startingToken_resumesFromThatPage() {
+        final FakeService service = new FakeService(1000, 100);
+        final ProfileObjectTypePaginator paginator = new ProfileObjectTypePaginator(service, DOMAIN_NAME, "900");
+
+        final ListProfileObjectTypesResponse page = paginator.next();
+
+        assertThat(page.items().get(0).objectTypeName()).isEqualTo("objectType900");
+        assertThat(paginator.hasNext()).isFalse();
+        assertThat(service.requests).hasSize(1);
+    }
+
+    @Test
+    public void next_partialWalk_exposesTokenForRemainingPages() {
+        final FakeService service = new FakeService(1000, 100);
+        final ProfileObjectTypePaginator paginator = new ProfileObjectTypePaginator(service, DOMAIN_NAME, null);
+
+        paginator.next();
+        paginator.next();
+
+        assertThat(paginator.hasNext()).isTrue();
+        assertThat(paginator.nextToken()).isEqualTo("200");
+    }
+
+    @Test
+    public void next_serviceRepeatsToken_stops() {
+        final List<ListProfileObjectTypesRequest> requests = new ArrayList<>();
+        final ProfileObjectTypePaginator paginator = new ProfileObjectTypePaginator(request -> {
+            requests.add(request);
+            return ListProfileObjectTypesResponse.builder().nextToken("sameToken").build();
+        }, DOMAIN_NAME, null);
+
+        while (paginator.hasNext()) {
+            paginator.next();
+        }
+
+        assertThat(requests).hasSize(2);
+        assertThat(paginator.nextToken()).isNull();
+    }
+
+    /**
+     * In-memory ListProfileObjectTypes that pages through a fixed number of object types, using the index of the
+     * next item as its token.
+     */
+    private static final class FakeService
+            implements Function<ListProfileObjectTypesRequest, ListProfileObjectTypesResponse> {
+
+        private final int objectTypes;
+        private final int pageSize;
+        private final List<ListProfileObjectTypesRequest> requests = new ArrayList<>();
+
+        FakeService(final int objectTypes, final int pageSize) {
+            this.objectTypes = objectTypes;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public ListProfileObjectTypesResponse apply(final ListProfileObjectTypesRequest request) {
+            requests.add(request);
+            final int start = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+            final int end = Math.min(start + pageSize, objectTypes);
+            final List<ListProfileObjectTypeItem> items = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                items.add(ListProfileObjectTypeItem.builder()
+                        .objectTypeName("objectType" + i)
+                        .createdAt(Instant.EPOCH)
+                        .lastUpdatedAt(Instant.EPOCH)
+                        .build());
+            }
+            return ListProfileObjectTypesResponse.builder()
+                    .items(items)
+                    .nextToken(end < objectTypes ? String.valueOf(end) : null)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package software.amazon.customerprofiles.objecttype;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceModelDiffTest {
+
+    private static final String DOMAIN_NAME = "testDomainName";
+    private static final String OBJECT_TYPE_NAME = "testObjectTypeName";
+
+    private static final FieldMap CONTACT_ID = field("sfdcContactId", "_source.Id", "_profile.Attributes.sfdcContactId");
+    private static final FieldMap EMAIL = field("email", "_source.Email", "_profile.EmailAddress");
+
+    @Test
+    public void changedProperties_sameModel() {
+        assertThat(ResourceModelDiff.changedProperties(model("description"), model("description"))).isEmpty();
+    }
+
+    @Test
+    public void changedProperties_readOnlyPropertiesIgnored() {
+        final ResourceModel previous = model("description");
+        previous.setCreatedAt("2021-01-01T00:00:00Z");
+        previous.setLastUpdatedAt("2021-01-01T00:00:00Z");
+
+        assertThat(ResourceModelDiff.changedProperties(previous, model("description"))).isEmpty();
+    }
+
+    @Test
+    public void changedProperties_scalarProperties() {
+        final ResourceModel desired = model("new description");
+        desired.setAllowProfileCreation(true);
+        desired.setEncryptionKey("key");
+        desired.setExpirationDays(10);
+        desired.setTemplateId("templateId");
+
+        assertThat(ResourceModelDiff.changedProperties(model("description"), desired)).containsExactly(
+                "AllowProfileCreation", "Description", "EncryptionKey", "ExpirationDays", "TemplateId");
+    }
+
+    @Test
+    public void changedProperties_fieldAndKeyOrderIgnored() {
+        final ResourceModel previous = model("description");
+        final ResourceModel desired = model("description");
+        desired.setFields(Lists.newArrayList(EMAIL, CONTACT_ID));
+        desired.setKeys(Lists.newArrayList(KeyMap.builder()
+                .name("domainKey")
+                .objectTypeKeyList(Lists.newArrayList(ObjectTypeKey.builder()
+                        .fieldNames(Lists.newArrayList("email", "sfdcContactId"))
+                        .standardIdentifiers(Lists.newArrayList("PROFILE", "UNIQUE"))
+                        .build()))
+                .build()));
+
+        assertThat(ResourceModelDiff.changedProperties(previous, desired)).isEmpty();
+    }
+
+    @Test
+    public void changedProperties_fieldsAndKeys() {
+        final ResourceModel desired = model("description");
+        desired.setFields(Lists.newArrayList(CONTACT_ID));
+        desired.setKeys(null);
+
+        assertThat(ResourceModelDiff.changedProperties(model("description"), desired))
+                .containsExactly("Fields", "Keys");
+    }
+
+    private static ResourceModel model(final String description) {
+        final List<KeyMap> keys = Lists.newArrayList(KeyMap.builder()
+                .name("domainKey")
+                .objectTypeKeyList(Lists.newArrayList(ObjectTypeKey.builder()
+                        .fieldNames(Lists.newArrayList("sfdcContactId", "email"))
+                        .standardIdentifiers(Lists.newArrayList("UNIQUE", "PROFILE"))
+                        .build()))
+                .build());
+        return ResourceModel.builder()
+                .domainName(DOMAIN_NAME)
+                .objectTypeName(OBJECT_TYPE_NAME)
+                .description(description)
+                .fields(Lists.newArrayList(CONTACT_ID, EMAIL))
+                .keys(keys)
+                .build();
+    }
+
+    private static FieldMap field(final String name, final String source, final String target) {
+        return FieldMap.builder()
+                .name(name)
+                .objectTypeField(ObjectTypeField.builder()
+                        .source(source)
+                        .target(target)
+                        .build())
+                .build();
+    }
+}
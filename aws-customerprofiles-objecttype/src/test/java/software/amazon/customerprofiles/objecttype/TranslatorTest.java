@@ -5,6 +5,12 @@ import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypeItem;
+import software.amazon.awssdk.services.customerprofiles.model.PutProfileObjectTypeRequest;
+
+import java.time.Instant;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -40,4 +46,76 @@ public class TranslatorTest {
     public void mapFieldsToList_mapKeyIsEmpty() {
         assertThat(Translator.mapFieldsToList(ImmutableMap.of())).isNull();
     }
+
+    @Test
+    public void isUpToDate_sameValues() {
+        final PutProfileObjectTypeRequest putRequest = PutProfileObjectTypeRequest.builder()
+                .description("description")
+                .expirationDays(100)
+                .build();
+        final GetProfileObjectTypeResponse current = GetProfileObjectTypeResponse.builder()
+                .description("description")
+                .expirationDays(100)
+                .tags(ImmutableMap.of())
+                .build();
+
+        assertThat(Translator.isUpToDate(putRequest, current)).isTrue();
+    }
+
+    @Test
+    public void isUpToDate_differentTags() {
+        final PutProfileObjectTypeRequest putRequest = PutProfileObjectTypeRequest.builder()
+                .description("description")
+                .tags(ImmutableMap.of("Key1", "Value1"))
+                .build();
+        final GetProfileObjectTypeResponse current = GetProfileObjectTypeResponse.builder()
+                .description("description")
+                .build();
+
+        assertThat(Translator.isUpToDate(putRequest, current)).isFalse();
+    }
+
+    @Test
+    public void mapTagsToList_tagsIsEmpty() {
+        assertThat(Translator.mapTagsToList(ImmutableMap.of())).isNull();
+    }
+
+    @Test
+    public void mapTagsToList_tags() {
+        final List<Tag> tags = Translator.mapTagsToList(ImmutableMap.of("key1", "value1", "key2", "value2"));
+
+        assertThat(tags).containsExactly(
+                Tag.builder().key("key1").value("value1").build(),
+                Tag.builder().key("key2").value("value2").build());
+    }
+
+    @Test
+    public void translateFromListItems_convertsEachItem() {
+        final Instant time = Instant.now();
+        final List<ListProfileObjectTypeItem> items = Lists.newArrayList(
+                ListProfileObjectTypeItem.builder()
+                        .objectTypeName("objectType1")
+                        .description("description1")
+                        .createdAt(time)
+                        .lastUpdatedAt(time)
+                        .tags(ImmutableMap.of("key", "value"))
+                        .build(),
+                ListProfileObjectTypeItem.builder()
+                        .objectTypeName("objectType2")
+                        .createdAt(time)
+                        .lastUpdatedAt(time)
+                        .tags(ImmutableMap.of())
+                        .build());
+
+        final List<ResourceModel> models = Translator.translateFromListItems("domainName", items);
+
+        assertThat(models).hasSize(2);
+        assertThat(models.get(0).getDomainName()).isEqualTo("domainName");
+        assertThat(models.get(0).getObjectTypeName()).isEqualTo("objectType1");
+        assertThat(models.get(0).getDescription()).isEqualTo("description1");
+        assertThat(models.get(0).getCreatedAt()).isEqualTo(time.toString());
+        assertThat(models.get(0).getTags()).containsExactly(Tag.builder().key("key").value("value").build());
+        assertThat(models.get(1).getObjectTypeName()).isEqualTo("objectType2");
+        assertThat(models.get(1).getTags()).isNull();
+    }
 }
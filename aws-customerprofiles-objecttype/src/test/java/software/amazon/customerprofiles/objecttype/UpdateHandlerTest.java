@@ -5,6 +5,7 @@ import com.google.common.collect.Lists;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.AccessDeniedException;
 import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
 import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeRequest;
 import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeResponse;
@@ -15,12 +16,16 @@ import software.amazon.awssdk.services.customerprofiles.model.PutProfileObjectTy
 import software.amazon.awssdk.services.customerprofiles.model.PutProfileObjectTypeResponse;
 import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.customerprofiles.model.StandardIdentifier;
+import software.amazon.awssdk.services.customerprofiles.model.TagResourceRequest;
+import software.amazon.awssdk.services.customerprofiles.model.TagResourceResponse;
 import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
 import software.amazon.awssdk.services.customerprofiles.model.UntagResourceRequest;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.awssdk.services.customerprofiles.model.UntagResourceResponse;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -41,6 +46,10 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest {
@@ -81,6 +90,7 @@ public class UpdateHandlerTest {
 
     @BeforeEach
     public void setup() {
+        ObjectTypeCache.setTtlSeconds(0);
         proxy = Mockito.mock(AmazonWebServicesClientProxy.class);
         customerProfilesClient = Mockito.mock(CustomerProfilesClient.class);
         logger = Mockito.mock(Logger.class);
@@ -123,6 +133,8 @@ public class UpdateHandlerTest {
 
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenReturn(putProfileObjectTypeResponse);
+        Mockito.doReturn(GetProfileObjectTypeResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetProfileObjectTypeRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -163,6 +175,8 @@ public class UpdateHandlerTest {
 
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenReturn(putProfileObjectTypeResponse);
+        Mockito.doReturn(GetProfileObjectTypeResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetProfileObjectTypeRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -204,6 +218,8 @@ public class UpdateHandlerTest {
 
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenReturn(putProfileObjectTypeResponse);
+        Mockito.doReturn(GetProfileObjectTypeResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetProfileObjectTypeRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -254,6 +270,8 @@ public class UpdateHandlerTest {
 
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenReturn(putProfileObjectTypeResponse);
+        Mockito.doReturn(GetProfileObjectTypeResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetProfileObjectTypeRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -304,6 +322,8 @@ public class UpdateHandlerTest {
 
         Mockito.when(proxy.injectCredentialsAndInvokeV2(any(), any()))
                 .thenReturn(putProfileObjectTypeResponse);
+        Mockito.doReturn(GetProfileObjectTypeResponse.builder().build()).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetProfileObjectTypeRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -373,7 +393,7 @@ public class UpdateHandlerTest {
     }
 
     @Test
-    public void handleRequest_getProfileObjectType_otherException() {
+    public void handleRequest_getProfileObjectType_ThrottlingException() {
         final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
 
         ThrottlingException exc = ThrottlingException.builder()
@@ -387,7 +407,7 @@ public class UpdateHandlerTest {
                 .desiredResourceState(model)
                 .build();
 
-        assertThrows(CfnGeneralServiceException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        assertThrows(CfnThrottlingException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
 
     @Test
@@ -463,7 +483,7 @@ public class UpdateHandlerTest {
     }
 
     @Test
-    public void handleRequest_putProfileObjectType_otherException() {
+    public void handleRequest_putProfileObjectType_ThrottlingException() {
         final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
 
         ThrottlingException exc = ThrottlingException.builder()
@@ -483,6 +503,124 @@ public class UpdateHandlerTest {
                 .desiredResourceState(model)
                 .build();
 
-        assertThrows(CfnGeneralServiceException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        assertThrows(CfnThrottlingException.class, () -> handler.handleRequest(proxy, request, null, logger));
+    }
+
+    @Test
+    public void handleRequest_upToDate_skipsPut() {
+        final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceTags(DESIRED_TAGS)
+                .desiredResourceTags(DESIRED_TAGS)
+                .build();
+
+        final GetProfileObjectTypeResponse getProfileObjectTypeResponse = GetProfileObjectTypeResponse.builder()
+                .allowProfileCreation(false)
+                .createdAt(TIME)
+                .description(DESCRIPTION)
+                .encryptionKey(KEY_ARN)
+                .expirationDays(EXPIRATION_DAYS)
+                .fields(fields)
+                .keys(keys)
+                .lastUpdatedAt(TIME)
+                .objectTypeName(OBJECT_TYPE_NAME)
+                .tags(DESIRED_TAGS)
+                .build();
+
+        Mockito.doReturn(getProfileObjectTypeResponse).when(proxy).injectCredentialsAndInvokeV2(
+                any(GetProfileObjectTypeRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getObjectTypeName()).isEqualTo(OBJECT_TYPE_NAME);
+        assertThat(response.getResourceModel().getTags()).hasSize(DESIRED_TAGS.size());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(PutProfileObjectTypeRequest.class), any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(UntagResourceRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_noChanges_skipsServiceCalls() {
+        final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(model)
+                .desiredResourceState(model)
+                .previousResourceTags(DESIRED_TAGS)
+                .desiredResourceTags(DESIRED_TAGS)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(model);
+        verifyNoInteractions(proxy);
+    }
+
+    @Test
+    public void handleRequest_onlyTagsChanged_appliesTagDelta() {
+        final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(model)
+                .desiredResourceState(model)
+                .previousResourceTags(PREVIOUS_TAGS)
+                .desiredResourceTags(DESIRED_TAGS)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxy).injectCredentialsAndInvokeV2(any(TagResourceRequest.class), any());
+        verify(proxy).injectCredentialsAndInvokeV2(any(UntagResourceRequest.class), any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(PutProfileObjectTypeRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_onlyTagsChanged_invalidatesCachedGet() {
+        ObjectTypeCache.setTtlSeconds(5);
+        final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(model)
+                .desiredResourceState(model)
+                .previousResourceTags(PREVIOUS_TAGS)
+                .desiredResourceTags(DESIRED_TAGS)
+                .build();
+
+        Mockito.doReturn(GetProfileObjectTypeResponse.builder().tags(PREVIOUS_TAGS).build()).when(proxy)
+                .injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+        Mockito.doReturn(TagResourceResponse.builder().build()).when(proxy)
+                .injectCredentialsAndInvokeV2(any(TagResourceRequest.class), any());
+        Mockito.doReturn(UntagResourceResponse.builder().build()).when(proxy)
+                .injectCredentialsAndInvokeV2(any(UntagResourceRequest.class), any());
+        ObjectTypeCache.get(proxy, customerProfilesClient, request);
+
+        handler.handleRequest(proxy, request, null, logger);
+        ObjectTypeCache.get(proxy, customerProfilesClient, request);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(GetProfileObjectTypeRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_onlyTagsChanged_AccessDeniedException() {
+        final UpdateHandler handler = new UpdateHandler(customerProfilesClient);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(model)
+                .desiredResourceState(model)
+                .previousResourceTags(PREVIOUS_TAGS)
+                .desiredResourceTags(DESIRED_TAGS)
+                .build();
+
+        Mockito.doThrow(AccessDeniedException.builder().message("AccessDeniedException").build())
+                .when(proxy).injectCredentialsAndInvokeV2(any(TagResourceRequest.class), any());
+
+        assertThrows(CfnAccessDeniedException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
 }
@@ -0,0 +1,126 @@
+package software.amazon.customerprofiles.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.GetDomainRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetDomainResponse;
+import software.amazon.customerprofiles.fake.FakeCustomerProfilesEndpoint;
+import software.amazon.customerprofiles.fake.FakeCustomerProfilesService;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a GetDomain through each {@link HttpTransport} against {@link FakeCustomerProfilesEndpoint} on the
+ * loopback interface, in a JVM capped at the heap of a 256 MB function.
+ *
+ * {@code firstCall} sends through a client built for that call alone, so it includes opening the connection, the
+ * cost a new execution environment or an exhausted pool pays. {@code pooledCall} reuses the connection kept by one
+ * client for the whole trial, which leaves the time to the first response byte. With {@code -prof gc} the first
+ * also reports the bytes a new transport allocates. {@code LAMBDA} is measured with a fresh client of the same stock
+ * settings, since the wrapper's own client cannot be closed between calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 3, jvmArgsAppend = "-Xmx256m")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HttpTransportBenchmark {
+
+    private static final String REGION = "us-east-1";
+    private static final String DOMAIN_NAME = "benchmarkDomain";
+
+    @Param({"LAMBDA", "APACHE", "URLCONNECTION"})
+    public HttpTransport.Kind transport;
+
+    private FakeCustomerProfilesEndpoint endpoint;
+    private SdkHttpClient pooledHttpClient;
+    private CustomerProfilesClient pooledClient;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        final FakeCustomerProfilesService service = new FakeCustomerProfilesService();
+        service.seedDomain(DOMAIN_NAME);
+        endpoint = new FakeCustomerProfilesEndpoint(service, 0, 4);
+        pooledHttpClient = HttpTransport.create(transport);
+        pooledClient = client(pooledHttpClient, endpoint.uri());
+        pooledClient.getDomain(request());
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        pooledClient.close();
+        if (transport != HttpTransport.Kind.LAMBDA) {
+            pooledHttpClient.close();
+        }
+        endpoint.close();
+    }
+
+    @Benchmark
+    public GetDomainResponse firstCall(final FreshClient fresh) {
+        return fresh.client.getDomain(request());
+    }
+
+    @Benchmark
+    public GetDomainResponse pooledCall() {
+        return pooledClient.getDomain(request());
+    }
+
+    /**
+     * A transport and client of the benchmarked kind with no open connection, built before every call.
+     */
+    @State(Scope.Thread)
+    public static class FreshClient {
+
+        private SdkHttpClient httpClient;
+        private CustomerProfilesClient client;
+
+        @Setup(Level.Invocation)
+        public void open(final HttpTransportBenchmark benchmark) {
+            httpClient = benchmark.transport == HttpTransport.Kind.LAMBDA
+                    ? ApacheHttpClient.create()
+                    : HttpTransport.create(benchmark.transport);
+            client = client(httpClient, benchmark.endpoint.uri());
+        }
+
+        @TearDown(Level.Invocation)
+        public void close() {
+            client.close();
+            httpClient.close();
+        }
+    }
+
+    private static CustomerProfilesClient client(final SdkHttpClient httpClient, final URI uri) {
+        return CustomerProfilesClient.builder()
+                .httpClient(httpClient)
+                .region(Region.of(REGION))
+                .endpointOverride(uri)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("id", "secret")))
+                .build();
+    }
+
+    private static GetDomainRequest request() {
+        return GetDomainRequest.builder()
+                .domainName(DOMAIN_NAME)
+                .build();
+    }
+}
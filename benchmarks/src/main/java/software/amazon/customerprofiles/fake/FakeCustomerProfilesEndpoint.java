@@ -0,0 +1,244 @@
+package software.amazon.customerprofiles.fake;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.services.customerprofiles.model.CreateDomainRequest;
+import software.amazon.awssdk.services.customerprofiles.model.DeleteDomainRequest;
+import software.amazon.awssdk.services.customerprofiles.model.DeleteIntegrationRequest;
+import software.amazon.awssdk.services.customerprofiles.model.DeleteProfileObjectTypeRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetDomainRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeRequest;
+import software.amazon.awssdk.services.customerprofiles.model.ListDomainsRequest;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsRequest;
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypesRequest;
+import software.amazon.awssdk.services.customerprofiles.model.PutIntegrationRequest;
+import software.amazon.awssdk.services.customerprofiles.model.PutProfileObjectTypeRequest;
+import software.amazon.awssdk.services.customerprofiles.model.TagResourceRequest;
+import software.amazon.awssdk.services.customerprofiles.model.UntagResourceRequest;
+import software.amazon.awssdk.services.customerprofiles.model.UpdateDomainRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves a {@link FakeCustomerProfilesService} over HTTP on the loopback interface, speaking the REST JSON protocol of
+ * Customer Profiles, so handlers built with the production client can be pointed at it with
+ * {@code CUSTOMER_PROFILES_ENDPOINT}.
+ *
+ * Each route maps a method and path template to one operation; path and query parameters and the body are read into
+ * the request through the SDK field metadata (see {@link SdkJson}). Service exceptions are answered with their status
+ * code and an {@code x-amzn-ErrorType} header so the SDK rebuilds the same exception on the client side.
+ */
+public final class FakeCustomerProfilesEndpoint implements AutoCloseable {
+
+    private static final String ERROR_TYPE_HEADER = "x-amzn-ErrorType";
+    private static final String CONTENT_TYPE = "application/json";
+    private static final Pattern PARAMETER = Pattern.compile("\\{(\\w+)}");
+    private static final int BAD_REQUEST = 400;
+    private static final int OK = 200;
+    private static final int SERVER_ERROR = 500;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<Route> routes = new ArrayList<>();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Starts serving on {@code port} of the loopback interface, 0 for any free port.
+     */
+    public FakeCustomerProfilesEndpoint(final FakeCustomerProfilesService service,
+                                        final int port,
+                                        final int threads) throws IOException {
+        route("POST", "/domains/{DomainName}", CreateDomainRequest::builder,
+                b -> service.createDomain(((CreateDomainRequest.Builder) b).build()));
+        route("GET", "/domains/{DomainName}", GetDomainRequest::builder,
+                b -> service.getDomain(((GetDomainRequest.Builder) b).build()));
+        route("PUT", "/domains/{DomainName}", UpdateDomainRequest::builder,
+                b -> service.updateDomain(((UpdateDomainRequest.Builder) b).build()));
+        route("DELETE", "/domains/{DomainName}", DeleteDomainRequest::builder,
+                b -> service.deleteDomain(((DeleteDomainRequest.Builder) b).build()));
+        route("GET", "/domains", ListDomainsRequest::builder,
+                b -> service.listDomains(((ListDomainsRequest.Builder) b).build()));
+        route("PUT", "/domains/{DomainName}/object-types/{ObjectTypeName}", PutProfileObjectTypeRequest::builder,
+                b -> service.putProfileObjectType(((PutProfileObjectTypeRequest.Builder) b).build()));
+        route("GET", "/domains/{DomainName}/object-types/{ObjectTypeName}", GetProfileObjectTypeRequest::builder,
+                b -> service.getProfileObjectType(((GetProfileObjectTypeRequest.Builder) b).build()));
+        route("DELETE", "/domains/{DomainName}/object-types/{ObjectTypeName}",
+                DeleteProfileObjectTypeRequest::builder,
+                b -> service.deleteProfileObjectType(((DeleteProfileObjectTypeRequest.Builder) b).build()));
+        route("GET", "/domains/{DomainName}/object-types", ListProfileObjectTypesRequest::builder,
+                b -> service.listProfileObjectTypes(((ListProfileObjectTypesRequest.Builder) b).build()));
+        route("PUT", "/domains/{DomainName}/integrations", PutIntegrationRequest::builder,
+                b -> service.putIntegration(((PutIntegrationRequest.Builder) b).build()));
+        route("POST", "/domains/{DomainName}/integrations", GetIntegrationRequest::builder,
+                b -> service.getIntegration(((GetIntegrationRequest.Builder) b).build()));
+        route("POST", "/domains/{DomainName}/integrations/delete", DeleteIntegrationRequest::builder,
+                b -> service.deleteIntegration(((DeleteIntegrationRequest.Builder) b).build()));
+        route("GET", "/domains/{DomainName}/integrations", ListIntegrationsRequest::builder,
+                b -> service.listIntegrations(((ListIntegrationsRequest.Builder) b).build()));
+        route("POST", "/tags/{resourceArn}", TagResourceRequest::builder,
+                b -> service.tagResource(((TagResourceRequest.Builder) b).build()));
+        route("DELETE", "/tags/{resourceArn}", UntagResourceRequest::builder,
+                b -> service.untagResource(((UntagResourceRequest.Builder) b).build()));
+
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    /**
+     * @return the URL to set as {@code CUSTOMER_PROFILES_ENDPOINT}
+     */
+    public URI uri() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void route(final String method,
+                       final String template,
+                       final Supplier<? extends SdkPojo> builder,
+                       final Function<SdkPojo, SdkPojo> operation) {
+        final Matcher parameters = PARAMETER.matcher(template);
+        final StringBuffer pattern = new StringBuffer();
+        while (parameters.find()) {
+            parameters.appendReplacement(pattern, "(?<$1>[^/]+)");
+        }
+        parameters.appendTail(pattern);
+        final List<String> names = new ArrayList<>();
+        final Matcher found = PARAMETER.matcher(template);
+        while (found.find()) {
+            names.add(found.group(1));
+        }
+        routes.add(new Route(method, Pattern.compile(pattern.toString()), names, builder, operation));
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            final String path = exchange.getRequestURI().getRawPath();
+            for (final Route route : routes) {
+                final Matcher matcher = route.path.matcher(path);
+                if (route.method.equals(exchange.getRequestMethod()) && matcher.matches()) {
+                    respond(exchange, OK, null, SdkJson.write(route.operation.apply(request(exchange, route, matcher))));
+                    return;
+                }
+            }
+            respond(exchange, BAD_REQUEST, "BadRequestException",
+                    error("No operation for " + exchange.getRequestMethod() + " " + path));
+        } catch (AwsServiceException e) {
+            respond(exchange, e.statusCode(), e.getClass().getSimpleName(), error(e.getMessage()));
+        } catch (RuntimeException e) {
+            respond(exchange, SERVER_ERROR, "InternalServerException", error(String.valueOf(e)));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private SdkPojo request(final HttpExchange exchange, final Route route, final Matcher matcher)
+            throws IOException {
+        final SdkPojo builder = route.builder.get();
+        try (InputStream body = exchange.getRequestBody()) {
+            final JsonNode json = mapper.readTree(body);
+            if (json != null && json.isObject()) {
+                SdkJson.read(json, builder);
+            }
+        }
+        for (final String name : route.parameters) {
+            SdkJson.readParameter(builder, name, Collections.singletonList(decode(matcher.group(name))));
+        }
+        query(exchange.getRequestURI().getRawQuery())
+                .forEach((name, values) -> SdkJson.readParameter(builder, name, values));
+        return builder;
+    }
+
+    private static Map<String, List<String>> query(final String rawQuery) {
+        final Map<String, List<String>> parameters = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (final String pair : rawQuery.split("&")) {
+            final int separator = pair.indexOf('=');
+            final String name = decode(separator < 0 ? pair : pair.substring(0, separator));
+            final String value = separator < 0 ? "" : decode(pair.substring(separator + 1));
+            parameters.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+        return parameters;
+    }
+
+    private static String decode(final String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode error(final String message) {
+        return mapper.createObjectNode().put("Message", message);
+    }
+
+    private void respond(final HttpExchange exchange,
+                         final int status,
+                         final String errorType,
+                         final JsonNode body) throws IOException {
+        final byte[] content = mapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        if (errorType != null) {
+            exchange.getResponseHeaders().set(ERROR_TYPE_HEADER, errorType);
+        }
+        exchange.sendResponseHeaders(status, content.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content);
+        }
+    }
+
+    private static final class Route {
+
+        private final String method;
+        private final Pattern path;
+        private final List<String> parameters;
+        private final Supplier<? extends SdkPojo> builder;
+        private final Function<SdkPojo, SdkPojo> operation;
+
+        private Route(final String method,
+                      final Pattern path,
+                      final List<String> parameters,
+                      final Supplier<? extends SdkPojo> builder,
+                      final Function<SdkPojo, SdkPojo> operation) {
+            this.method = method;
+            this.path = path;
+            this.parameters = parameters;
+            this.builder = builder;
+            this.operation = operation;
+        }
+    }
+}
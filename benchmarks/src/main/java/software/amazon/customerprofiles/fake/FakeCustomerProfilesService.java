@@ -0,0 +1,561 @@
+package software.amazon.customerprofiles.fake;
+
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.BadRequestException;
+import software.amazon.awssdk.services.customerprofiles.model.CreateDomainRequest;
+import software.amazon.awssdk.services.customerprofiles.model.CreateDomainResponse;
+import software.amazon.awssdk.services.customerprofiles.model.DeleteDomainRequest;
+import software.amazon.awssdk.services.customerprofiles.model.DeleteDomainResponse;
+import software.amazon.awssdk.services.customerprofiles.model.DeleteIntegrationRequest;
+import software.amazon.awssdk.services.customerprofiles.model.DeleteIntegrationResponse;
+import software.amazon.awssdk.services.customerprofiles.model.DeleteProfileObjectTypeRequest;
+import software.amazon.awssdk.services.customerprofiles.model.DeleteProfileObjectTypeResponse;
+import software.amazon.awssdk.services.customerprofiles.model.GetDomainRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetDomainResponse;
+import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetIntegrationResponse;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeResponse;
+import software.amazon.awssdk.services.customerprofiles.model.InternalServerException;
+import software.amazon.awssdk.services.customerprofiles.model.ListDomainItem;
+import software.amazon.awssdk.services.customerprofiles.model.ListDomainsRequest;
+import software.amazon.awssdk.services.customerprofiles.model.ListDomainsResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationItem;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsRequest;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationsResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypeItem;
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypesRequest;
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypesResponse;
+import software.amazon.awssdk.services.customerprofiles.model.PutIntegrationRequest;
+import software.amazon.awssdk.services.customerprofiles.model.PutIntegrationResponse;
+import software.amazon.awssdk.services.customerprofiles.model.PutProfileObjectTypeRequest;
+import software.amazon.awssdk.services.customerprofiles.model.PutProfileObjectTypeResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.customerprofiles.model.TagResourceRequest;
+import software.amazon.awssdk.services.customerprofiles.model.TagResourceResponse;
+import software.amazon.awssdk.services.customerprofiles.model.ThrottlingException;
+import software.amazon.awssdk.services.customerprofiles.model.UntagResourceRequest;
+import software.amazon.awssdk.services.customerprofiles.model.UntagResourceResponse;
+import software.amazon.awssdk.services.customerprofiles.model.UpdateDomainRequest;
+import software.amazon.awssdk.services.customerprofiles.model.UpdateDomainResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * In-memory Customer Profiles service behind the {@link CustomerProfilesClient} interface, so every handler of the
+ * three resource types can be driven at high concurrency without an AWS account.
+ *
+ * It keeps domains, object types and integrations with their tags, pages list results with the key of the last
+ * returned item as the token, and answers missing resources and duplicate domains with the exceptions the service
+ * throws. Every call can be delayed by a fixed latency and fail at random with a ThrottlingException or an
+ * InternalServerException, at the rates given to the constructor. Resources are stored as immutable SDK responses
+ * in concurrent maps, so the client is safe to share between threads.
+ */
+public final class FakeCustomerProfilesService implements CustomerProfilesClient {
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int DEFAULT_EXPIRATION_DAYS = 366;
+    private static final String KEY_SEPARATOR = "/";
+    private static final String KEY_END = "/\uffff";
+    private static final String ARN_RESOURCE_PREFIX = ":domains/";
+    private static final String OBJECT_TYPES_PATH = "/object-types/";
+    private static final String INTEGRATIONS_PATH = "/integrations/";
+    private static final String FLOW_URI_PREFIX = "arn:aws:appflow:us-east-1:123456789012:flow/";
+
+    private final long latencyNanos;
+    private final double throttleRate;
+    private final double serverErrorRate;
+    private final int pageSize;
+
+    private final ConcurrentNavigableMap<String, GetDomainResponse> domains = new ConcurrentSkipListMap<>();
+    private final ConcurrentNavigableMap<String, GetProfileObjectTypeResponse> objectTypes =
+            new ConcurrentSkipListMap<>();
+    private final ConcurrentNavigableMap<String, GetIntegrationResponse> integrations = new ConcurrentSkipListMap<>();
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong throttles = new AtomicLong();
+    private final AtomicLong serverErrors = new AtomicLong();
+
+    public FakeCustomerProfilesService() {
+        this(0, 0, 0, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * @param latencyMillis   time every call takes before it is answered
+     * @param throttleRate    share of calls, between 0 and 1, that fail with a ThrottlingException
+     * @param serverErrorRate share of calls, between 0 and 1, that fail with an InternalServerException
+     * @param pageSize        items per list page when the request does not ask for fewer
+     */
+    public FakeCustomerProfilesService(final long latencyMillis,
+                                       final double throttleRate,
+                                       final double serverErrorRate,
+                                       final int pageSize) {
+        this.latencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+        this.throttleRate = throttleRate;
+        this.serverErrorRate = serverErrorRate;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Creates a domain directly, without latency or faults, for benchmarks that need one to exist.
+     */
+    public void seedDomain(final String domainName) {
+        final Instant now = Instant.now();
+        domains.putIfAbsent(domainName, GetDomainResponse.builder()
+                .domainName(domainName)
+                .defaultExpirationDays(DEFAULT_EXPIRATION_DAYS)
+                .tags(new HashMap<>())
+                .createdAt(now)
+                .lastUpdatedAt(now)
+                .build());
+    }
+
+    /**
+     * Creates an object type in a seeded domain directly, without latency or faults.
+     */
+    public void seedObjectType(final String domainName, final String objectTypeName) {
+        final Instant now = Instant.now();
+        objectTypes.putIfAbsent(key(domainName, objectTypeName), GetProfileObjectTypeResponse.builder()
+                .objectTypeName(objectTypeName)
+                .description("Seeded object type " + objectTypeName)
+                .expirationDays(DEFAULT_EXPIRATION_DAYS)
+                .tags(new HashMap<>())
+                .createdAt(now)
+                .lastUpdatedAt(now)
+                .build());
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+
+    public long getThrottles() {
+        return throttles.get();
+    }
+
+    public long getServerErrors() {
+        return serverErrors.get();
+    }
+
+    public int getDomainCount() {
+        return domains.size();
+    }
+
+    public int getObjectTypeCount() {
+        return objectTypes.size();
+    }
+
+    public int getIntegrationCount() {
+        return integrations.size();
+    }
+
+    @Override
+    public CreateDomainResponse createDomain(final CreateDomainRequest request) {
+        call();
+        final Instant now = Instant.now();
+        final GetDomainResponse domain = GetDomainResponse.builder()
+                .domainName(request.domainName())
+                .defaultExpirationDays(request.defaultExpirationDays())
+                .defaultEncryptionKey(request.defaultEncryptionKey())
+                .deadLetterQueueUrl(request.deadLetterQueueUrl())
+                .tags(copy(request.tags()))
+                .createdAt(now)
+                .lastUpdatedAt(now)
+                .build();
+        if (domains.putIfAbsent(request.domainName(), domain) != null) {
+            throw badRequest("Domain " + request.domainName() + " already exists");
+        }
+        return CreateDomainResponse.builder()
+                .domainName(domain.domainName())
+                .defaultExpirationDays(domain.defaultExpirationDays())
+                .defaultEncryptionKey(domain.defaultEncryptionKey())
+                .deadLetterQueueUrl(domain.deadLetterQueueUrl())
+                .tags(domain.tags())
+                .createdAt(domain.createdAt())
+                .lastUpdatedAt(domain.lastUpdatedAt())
+                .build();
+    }
+
+    @Override
+    public GetDomainResponse getDomain(final GetDomainRequest request) {
+        call();
+        return domain(request.domainName());
+    }
+
+    @Override
+    public UpdateDomainResponse updateDomain(final UpdateDomainRequest request) {
+        call();
+        final GetDomainResponse updated = domains.computeIfPresent(request.domainName(), (name, domain) ->
+                domain.toBuilder()
+                        .defaultExpirationDays(request.defaultExpirationDays() == null
+                                ? domain.defaultExpirationDays() : request.defaultExpirationDays())
+                        .defaultEncryptionKey(request.defaultEncryptionKey() == null
+                                ? domain.defaultEncryptionKey() : request.defaultEncryptionKey())
+                        .deadLetterQueueUrl(request.deadLetterQueueUrl() == null
+                                ? domain.deadLetterQueueUrl() : request.deadLetterQueueUrl())
+                        .tags(merge(domain.tags(), request.tags()))
+                        .lastUpdatedAt(Instant.now())
+                        .build());
+        if (updated == null) {
+            throw notFound("Domain " + request.domainName() + " not found");
+        }
+        return UpdateDomainResponse.builder()
+                .domainName(updated.domainName())
+                .defaultExpirationDays(updated.defaultExpirationDays())
+                .defaultEncryptionKey(updated.defaultEncryptionKey())
+                .deadLetterQueueUrl(updated.deadLetterQueueUrl())
+                .tags(updated.tags())
+                .createdAt(updated.createdAt())
+                .lastUpdatedAt(updated.lastUpdatedAt())
+                .build();
+    }
+
+    @Override
+    public DeleteDomainResponse deleteDomain(final DeleteDomainRequest request) {
+        call();
+        if (domains.remove(request.domainName()) == null) {
+            throw notFound("Domain " + request.domainName() + " not found");
+        }
+        children(objectTypes, request.domainName()).clear();
+        children(integrations, request.domainName()).clear();
+        return DeleteDomainResponse.builder()
+                .message("Domain " + request.domainName() + " was deleted")
+                .build();
+    }
+
+    @Override
+    public ListDomainsResponse listDomains(final ListDomainsRequest request) {
+        call();
+        final List<ListDomainItem> items = new ArrayList<>();
+        final String nextToken = page(domains, request.nextToken(), request.maxResults(), domain ->
+                items.add(ListDomainItem.builder()
+                        .domainName(domain.domainName())
+                        .tags(domain.tags())
+                        .createdAt(domain.createdAt())
+                        .lastUpdatedAt(domain.lastUpdatedAt())
+                        .build()));
+        return ListDomainsResponse.builder()
+                .items(items)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    @Override
+    public PutProfileObjectTypeResponse putProfileObjectType(final PutProfileObjectTypeRequest request) {
+        call();
+        domain(request.domainName());
+        final Instant now = Instant.now();
+        final GetProfileObjectTypeResponse objectType = objectTypes.merge(
+                key(request.domainName(), request.objectTypeName()),
+                GetProfileObjectTypeResponse.builder()
+                        .objectTypeName(request.objectTypeName())
+                        .description(request.description())
+                        .templateId(request.templateId())
+                        .expirationDays(request.expirationDays())
+                        .encryptionKey(request.encryptionKey())
+                        .allowProfileCreation(request.allowProfileCreation())
+                        .fields(request.fields())
+                        .keys(request.keys())
+                        .tags(copy(request.tags()))
+                        .createdAt(now)
+                        .lastUpdatedAt(now)
+                        .build(),
+                (existing, written) -> written.toBuilder()
+                        .tags(merge(existing.tags(), written.tags()))
+                        .createdAt(existing.createdAt())
+                        .build());
+        return PutProfileObjectTypeResponse.builder()
+                .objectTypeName(objectType.objectTypeName())
+                .description(objectType.description())
+                .templateId(objectType.templateId())
+                .expirationDays(objectType.expirationDays())
+                .encryptionKey(objectType.encryptionKey())
+                .allowProfileCreation(objectType.allowProfileCreation())
+                .fields(objectType.fields())
+                .keys(objectType.keys())
+                .tags(objectType.tags())
+                .createdAt(objectType.createdAt())
+                .lastUpdatedAt(objectType.lastUpdatedAt())
+                .build();
+    }
+
+    @Override
+    public GetProfileObjectTypeResponse getProfileObjectType(final GetProfileObjectTypeRequest request) {
+        call();
+        final GetProfileObjectTypeResponse objectType =
+                objectTypes.get(key(request.domainName(), request.objectTypeName()));
+        if (objectType == null) {
+            throw notFound("ObjectType " + request.objectTypeName() + " not found in domain "
+                    + request.domainName());
+        }
+        return objectType;
+    }
+
+    @Override
+    public DeleteProfileObjectTypeResponse deleteProfileObjectType(final DeleteProfileObjectTypeRequest request) {
+        call();
+        if (objectTypes.remove(key(request.domainName(), request.objectTypeName())) == null) {
+            throw notFound("ObjectType " + request.objectTypeName() + " not found in domain "
+                    + request.domainName());
+        }
+        return DeleteProfileObjectTypeResponse.builder()
+                .message("ObjectType " + request.objectTypeName() + " was deleted")
+                .build();
+    }
+
+    @Override
+    public ListProfileObjectTypesResponse listProfileObjectTypes(final ListProfileObjectTypesRequest request) {
+        call();
+        domain(request.domainName());
+        final List<ListProfileObjectTypeItem> items = new ArrayList<>();
+        final String nextToken = page(children(objectTypes, request.domainName()), request.nextToken(),
+                request.maxResults(), objectType -> items.add(ListProfileObjectTypeItem.builder()
+                        .objectTypeName(objectType.objectTypeName())
+                        .description(objectType.description())
+                        .tags(objectType.tags())
+                        .createdAt(objectType.createdAt())
+                        .lastUpdatedAt(objectType.lastUpdatedAt())
+                        .build()));
+        return ListProfileObjectTypesResponse.builder()
+                .items(items)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    @Override
+    public PutIntegrationResponse putIntegration(final PutIntegrationRequest request) {
+        call();
+        domain(request.domainName());
+        final String uri = request.uri() != null || request.flowDefinition() == null
+                ? request.uri()
+                : FLOW_URI_PREFIX + request.flowDefinition().flowName();
+        if (uri == null) {
+            throw badRequest("Either Uri or FlowDefinition must be provided");
+        }
+        final Instant now = Instant.now();
+        final GetIntegrationResponse integration = integrations.merge(key(request.domainName(), uri),
+                GetIntegrationResponse.builder()
+                        .domainName(request.domainName())
+                        .uri(uri)
+                        .objectTypeName(request.objectTypeName())
+                        .tags(copy(request.tags()))
+                        .createdAt(now)
+                        .lastUpdatedAt(now)
+                        .build(),
+                (existing, written) -> written.toBuilder()
+                        .tags(merge(existing.tags(), written.tags()))
+                        .createdAt(existing.createdAt())
+                        .build());
+        return PutIntegrationResponse.builder()
+                .domainName(integration.domainName())
+                .uri(integration.uri())
+                .objectTypeName(integration.objectTypeName())
+                .tags(integration.tags())
+                .createdAt(integration.createdAt())
+                .lastUpdatedAt(integration.lastUpdatedAt())
+                .build();
+    }
+
+    @Override
+    public GetIntegrationResponse getIntegration(final GetIntegrationRequest request) {
+        call();
+        final GetIntegrationResponse integration = integrations.get(key(request.domainName(), request.uri()));
+        if (integration == null) {
+            throw notFound("Integration " + request.uri() + " not found in domain " + request.domainName());
+        }
+        return integration;
+    }
+
+    @Override
+    public DeleteIntegrationResponse deleteIntegration(final DeleteIntegrationRequest request) {
+        call();
+        if (integrations.remove(key(request.domainName(), request.uri())) == null) {
+            throw notFound("Integration " + request.uri() + " not found in domain " + request.domainName());
+        }
+        return DeleteIntegrationResponse.builder()
+                .message("Integration " + request.uri() + " was deleted")
+                .build();
+    }
+
+    @Override
+    public ListIntegrationsResponse listIntegrations(final ListIntegrationsRequest request) {
+        call();
+        domain(request.domainName());
+        final List<ListIntegrationItem> items = new ArrayList<>();
+        final String nextToken = page(children(integrations, request.domainName()), request.nextToken(),
+                request.maxResults(), integration -> items.add(ListIntegrationItem.builder()
+                        .domainName(integration.domainName())
+                        .uri(integration.uri())
+                        .objectTypeName(integration.objectTypeName())
+                        .tags(integration.tags())
+                        .createdAt(integration.createdAt())
+                        .lastUpdatedAt(integration.lastUpdatedAt())
+                        .build()));
+        return ListIntegrationsResponse.builder()
+                .items(items)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    /**
+     * Tags a domain, object type or integration, found by the path after the account in its ARN.
+     */
+    @Override
+    public TagResourceResponse tagResource(final TagResourceRequest request) {
+        call();
+        retag(request.resourceArn(), tags -> tags.putAll(request.tags()));
+        return TagResourceResponse.builder().build();
+    }
+
+    @Override
+    public UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        call();
+        retag(request.resourceArn(), tags -> tags.keySet().removeAll(request.tagKeys()));
+        return UntagResourceResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Waits out the configured latency and then fails the call at the configured rates.
+     */
+    private void call() {
+        calls.incrementAndGet();
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+        final double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < throttleRate) {
+            throttles.incrementAndGet();
+            throw ThrottlingException.builder()
+                    .statusCode(429)
+                    .message("Rate exceeded")
+                    .build();
+        }
+        if (roll < throttleRate + serverErrorRate) {
+            serverErrors.incrementAndGet();
+            throw InternalServerException.builder()
+                    .statusCode(500)
+                    .message("Internal server error")
+                    .build();
+        }
+    }
+
+    private GetDomainResponse domain(final String domainName) {
+        final GetDomainResponse domain = domainName == null ? null : domains.get(domainName);
+        if (domain == null) {
+            throw notFound("Domain " + domainName + " not found");
+        }
+        return domain;
+    }
+
+    private void retag(final String resourceArn, final Consumer<Map<String, String>> change) {
+        final int start = resourceArn == null ? -1 : resourceArn.indexOf(ARN_RESOURCE_PREFIX);
+        if (start < 0) {
+            throw badRequest("Invalid resource ARN " + resourceArn);
+        }
+        final String path = resourceArn.substring(start + ARN_RESOURCE_PREFIX.length());
+        final int objectType = path.indexOf(OBJECT_TYPES_PATH);
+        final int integration = path.indexOf(INTEGRATIONS_PATH);
+        final Object updated;
+        if (objectType > 0) {
+            updated = objectTypes.computeIfPresent(key(path.substring(0, objectType),
+                    path.substring(objectType + OBJECT_TYPES_PATH.length())), (key, resource) ->
+                    resource.toBuilder().tags(changed(resource.tags(), change)).build());
+        } else if (integration > 0) {
+            updated = integrations.computeIfPresent(key(path.substring(0, integration),
+                    path.substring(integration + INTEGRATIONS_PATH.length())), (key, resource) ->
+                    resource.toBuilder().tags(changed(resource.tags(), change)).build());
+        } else {
+            updated = domains.computeIfPresent(path, (key, resource) ->
+                    resource.toBuilder().tags(changed(resource.tags(), change)).build());
+        }
+        if (updated == null) {
+            throw notFound("Resource " + resourceArn + " not found");
+        }
+    }
+
+    /**
+     * Fills one page from {@code resources}, starting after the key in {@code token}.
+     * @return the token for the next page, or null on the last page
+     */
+    private <T> String page(final NavigableMap<String, T> resources,
+                            final String token,
+                            final Integer maxResults,
+                            final Consumer<T> add) {
+        final int limit = maxResults == null ? pageSize : Math.min(maxResults, pageSize);
+        final NavigableMap<String, T> remaining = token == null ? resources : resources.tailMap(token, false);
+        int added = 0;
+        String last = null;
+        for (final Map.Entry<String, T> entry : remaining.entrySet()) {
+            if (added == limit) {
+                return last;
+            }
+            add.accept(entry.getValue());
+            last = entry.getKey();
+            added++;
+        }
+        return null;
+    }
+
+    private static <T> ConcurrentNavigableMap<String, T> children(final ConcurrentNavigableMap<String, T> resources,
+                                                                  final String domainName) {
+        return resources.subMap(domainName + KEY_SEPARATOR, true, domainName + KEY_END, false);
+    }
+
+    private static String key(final String domainName, final String name) {
+        return domainName + KEY_SEPARATOR + name;
+    }
+
+    private static Map<String, String> copy(final Map<String, String> tags) {
+        return tags == null ? new HashMap<>() : new HashMap<>(tags);
+    }
+
+    private static Map<String, String> merge(final Map<String, String> existing, final Map<String, String> added) {
+        final Map<String, String> merged = copy(existing);
+        if (added != null) {
+            merged.putAll(added);
+        }
+        return merged;
+    }
+
+    private static Map<String, String> changed(final Map<String, String> tags,
+                                               final Consumer<Map<String, String>> change) {
+        final Map<String, String> copy = copy(tags);
+        change.accept(copy);
+        return copy;
+    }
+
+    private static BadRequestException badRequest(final String message) {
+        return BadRequestException.builder()
+                .statusCode(400)
+                .message(message)
+                .build();
+    }
+
+    private static ResourceNotFoundException notFound(final String message) {
+        return ResourceNotFoundException.builder()
+                .statusCode(404)
+                .message(message)
+                .build();
+    }
+}
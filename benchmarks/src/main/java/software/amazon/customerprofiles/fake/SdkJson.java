@@ -0,0 +1,169 @@
+package software.amazon.customerprofiles.fake;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts SDK model objects to and from the JSON bodies of the Customer Profiles REST protocol, driven by the field
+ * metadata every generated model class carries, so the stand-in endpoint needs no code per operation.
+ */
+final class SdkJson {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+    private static final double MILLIS_PER_SECOND = 1000.0;
+
+    private SdkJson() {
+    }
+
+    /**
+     * @return the body fields of a request or response as a JSON object
+     */
+    static ObjectNode write(final SdkPojo pojo) {
+        final ObjectNode node = NODES.objectNode();
+        for (final SdkField<?> field : pojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                continue;
+            }
+            final Object value = field.getValueOrDefault(pojo);
+            if (value != null && !(value instanceof SdkAutoConstructList) && !(value instanceof SdkAutoConstructMap)) {
+                node.set(field.locationName(), toJson(value));
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Sets the body fields of {@code builder} from a JSON object; unknown members are ignored.
+     */
+    static void read(final JsonNode node, final SdkPojo builder) {
+        for (final SdkField<?> field : builder.sdkFields()) {
+            final JsonNode value = node.get(field.locationName());
+            if (field.location() == MarshallLocation.PAYLOAD && value != null && !value.isNull()) {
+                field.set(builder, fromJson(value, field));
+            }
+        }
+    }
+
+    /**
+     * Sets a path or query parameter of {@code builder} from its URL-decoded values.
+     */
+    static void readParameter(final SdkPojo builder, final String locationName, final List<String> values) {
+        for (final SdkField<?> field : builder.sdkFields()) {
+            final boolean parameter = field.location() == MarshallLocation.PATH
+                    || field.location() == MarshallLocation.GREEDY_PATH
+                    || field.location() == MarshallLocation.QUERY_PARAM;
+            if (parameter && field.locationName().equals(locationName)) {
+                if (field.marshallingType() == MarshallingType.LIST) {
+                    field.set(builder, new ArrayList<>(values));
+                } else {
+                    field.set(builder, fromText(values.get(0), field));
+                }
+            }
+        }
+    }
+
+    private static JsonNode toJson(final Object value) {
+        if (value instanceof SdkPojo) {
+            return write((SdkPojo) value);
+        }
+        if (value instanceof Map) {
+            final ObjectNode node = NODES.objectNode();
+            ((Map<?, ?>) value).forEach((key, entry) -> node.set(String.valueOf(key), toJson(entry)));
+            return node;
+        }
+        if (value instanceof List) {
+            final ArrayNode node = NODES.arrayNode();
+            ((List<?>) value).forEach(entry -> node.add(toJson(entry)));
+            return node;
+        }
+        if (value instanceof Instant) {
+            return NODES.numberNode(((Instant) value).toEpochMilli() / MILLIS_PER_SECOND);
+        }
+        if (value instanceof Boolean) {
+            return NODES.booleanNode((Boolean) value);
+        }
+        if (value instanceof Integer) {
+            return NODES.numberNode((Integer) value);
+        }
+        if (value instanceof Long) {
+            return NODES.numberNode((Long) value);
+        }
+        if (value instanceof Double) {
+            return NODES.numberNode((Double) value);
+        }
+        return NODES.textNode(String.valueOf(value));
+    }
+
+    private static Object fromJson(final JsonNode value, final SdkField<?> field) {
+        final MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            final SdkPojo builder = field.constructor().get();
+            read(value, builder);
+            return ((SdkBuilder<?, ?>) builder).build();
+        }
+        if (type == MarshallingType.LIST) {
+            final SdkField<?> member = field.getTrait(ListTrait.class).memberFieldInfo();
+            final List<Object> list = new ArrayList<>(value.size());
+            value.forEach(entry -> list.add(fromJson(entry, member)));
+            return list;
+        }
+        if (type == MarshallingType.MAP) {
+            final SdkField<?> member = field.getTrait(MapTrait.class).valueFieldInfo();
+            final Map<String, Object> map = new LinkedHashMap<>();
+            final Iterator<Map.Entry<String, JsonNode>> entries = value.fields();
+            while (entries.hasNext()) {
+                final Map.Entry<String, JsonNode> entry = entries.next();
+                map.put(entry.getKey(), fromJson(entry.getValue(), member));
+            }
+            return map;
+        }
+        if (type == MarshallingType.INSTANT) {
+            return Instant.ofEpochMilli(Math.round(value.asDouble() * MILLIS_PER_SECOND));
+        }
+        if (type == MarshallingType.BOOLEAN) {
+            return value.asBoolean();
+        }
+        if (type == MarshallingType.INTEGER) {
+            return value.asInt();
+        }
+        if (type == MarshallingType.LONG) {
+            return value.asLong();
+        }
+        if (type == MarshallingType.DOUBLE) {
+            return value.asDouble();
+        }
+        return value.asText();
+    }
+
+    private static Object fromText(final String value, final SdkField<?> field) {
+        final MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.INTEGER) {
+            return Integer.valueOf(value);
+        }
+        if (type == MarshallingType.LONG) {
+            return Long.valueOf(value);
+        }
+        if (type == MarshallingType.BOOLEAN) {
+            return Boolean.valueOf(value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,93 @@
+package software.amazon.customerprofiles.integration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.services.customerprofiles.model.ListIntegrationItem;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cost per listed integration of turning a ListHandler page into resource models.
+ *
+ * {@code presized} is what the ListHandler does now: every model built once into an ArrayList sized for the page.
+ * {@code eager} is the original approach, growing a default-sized ArrayList and streaming each tag map into a new
+ * list.
+ * Each operation is one item, so with {@code -prof gc} the {@code gc.alloc.rate.norm} column is bytes per item.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OperationsPerInvocation(IntegrationListTranslationBenchmark.ITEMS)
+public class IntegrationListTranslationBenchmark {
+
+    static final int ITEMS = 1000;
+
+    @Param({"0", "3"})
+    public int tagsPerItem;
+
+    private List<ListIntegrationItem> items;
+
+    @Setup
+    public void setup() {
+        items = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            final Map<String, String> tags = new HashMap<>();
+            for (int t = 0; t < tagsPerItem; t++) {
+                tags.put("key" + t, "value" + t);
+            }
+            items.add(ListIntegrationItem.builder()
+                    .domainName("benchmarkDomain")
+                    .objectTypeName("objectType" + i)
+                    .uri("arn:aws:flow:us-east-1:123456789012:flow/flow" + i)
+                    .createdAt(Instant.EPOCH)
+                    .lastUpdatedAt(Instant.EPOCH)
+                    .tags(tags)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void presized(final Blackhole blackhole) {
+        for (ResourceModel model : Translator.translateFromListItems(items)) {
+            blackhole.consume(model);
+        }
+    }
+
+    @Benchmark
+    public void eager(final Blackhole blackhole) {
+        final List<ResourceModel> models = new ArrayList<>();
+        items.forEach(res -> models.add(ResourceModel.builder()
+                .createdAt(res.createdAt().toString())
+                .domainName(res.domainName())
+                .lastUpdatedAt(res.lastUpdatedAt().toString())
+                .objectTypeName(res.objectTypeName())
+                .uri(res.uri())
+                .tags(res.tags().isEmpty() ? null : res.tags().entrySet().stream()
+                        .map(t -> Tag.builder().key(t.getKey()).value(t.getValue()).build())
+                        .collect(Collectors.toList()))
+                .build()));
+        for (ResourceModel model : models) {
+            blackhole.consume(model);
+        }
+    }
+}
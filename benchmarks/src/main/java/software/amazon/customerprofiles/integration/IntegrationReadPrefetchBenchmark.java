@@ -0,0 +1,97 @@
+package software.amazon.customerprofiles.integration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.customerprofiles.model.PutIntegrationRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.customerprofiles.fake.FakeCustomerProfilesService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to Read all 200 integrations of a domain one after the other, as drift detection does, from
+ * {@link FakeCustomerProfilesService} with 10 ms of latency per call and 100 integrations per list page. A TTL of 0
+ * reads each integration with GetIntegration; otherwise every pass starts from an empty {@link IntegrationPrefetch}
+ * and lists the domain once. The teardown prints the service calls per pass.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class IntegrationReadPrefetchBenchmark {
+
+    private static final String DOMAIN_NAME = "benchmarkDomain";
+    private static final String URI_PREFIX = "arn:aws:flow:us-east-1:123456789012:benchmarkIntegration";
+    private static final int INTEGRATIONS = 200;
+    private static final long LATENCY_MILLIS = 10;
+
+    @Param({"0", "60"})
+    public long prefetchTtlSeconds;
+
+    private FakeCustomerProfilesService service;
+    private AmazonWebServicesClientProxy proxy;
+    private List<ResourceHandlerRequest<ResourceModel>> requests;
+    private long seedCalls;
+    private long passes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        service = new FakeCustomerProfilesService(LATENCY_MILLIS, 0, 0, 100);
+        service.seedDomain(DOMAIN_NAME);
+        requests = new ArrayList<>(INTEGRATIONS);
+        for (int i = 0; i < INTEGRATIONS; i++) {
+            service.putIntegration(PutIntegrationRequest.builder()
+                    .domainName(DOMAIN_NAME)
+                    .uri(URI_PREFIX + i)
+                    .objectTypeName("objectType")
+                    .build());
+            requests.add(ResourceHandlerRequest.<ResourceModel>builder()
+                    .awsAccountId("123456789012")
+                    .region("us-east-1")
+                    .desiredResourceState(ResourceModel.builder()
+                            .domainName(DOMAIN_NAME)
+                            .uri(URI_PREFIX + i)
+                            .build())
+                    .build());
+        }
+        seedCalls = service.getCalls();
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(), new Credentials("id", "secret", "token"),
+                () -> TimeUnit.MINUTES.toMillis(15));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%.1f calls per pass%n", (double) (service.getCalls() - seedCalls) / Math.max(passes, 1));
+    }
+
+    @Benchmark
+    public int readAll() {
+        final ReadHandler handler = new ReadHandler(service, new IntegrationPrefetch(prefetchTtlSeconds));
+        int read = 0;
+        for (final ResourceHandlerRequest<ResourceModel> request : requests) {
+            if (handler.handleRequest(proxy, request, null, message -> { }).getResourceModel() != null) {
+                read++;
+            }
+        }
+        passes++;
+        return read;
+    }
+}
@@ -0,0 +1,110 @@
+package software.amazon.customerprofiles.integration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.customerprofiles.integration.translators.TaskTranslator;
+import software.amazon.customerprofiles.integration.translators.TriggerConfigTranslator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the integration flow definition translation for a Salesforce flow with 500 tasks: the whole
+ * {@link Translator#buildServiceFlowDefinition} as well as its task and trigger parts on their own. Run with
+ * {@code -prof gc} (or the {@code benchmark} profile) to get the allocation rate alongside.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class IntegrationTranslatorBenchmark {
+
+    static final int TASKS = 500;
+    private static final String CONNECTOR_TYPE = "Salesforce";
+
+    private FlowDefinition flowDefinition;
+
+    @Setup
+    public void setup() {
+        final List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(Task.builder()
+                    .taskType("Map")
+                    .connectorOperator(ConnectorOperator.builder().salesforce("NO_OP").build())
+                    .destinationField("destinationField" + i)
+                    .sourceFields(Collections.singletonList("sourceField" + i))
+                    .taskProperties(Arrays.asList(
+                            TaskPropertiesMap.builder()
+                                    .operatorPropertyKey("SOURCE_DATA_TYPE")
+                                    .property("string")
+                                    .build(),
+                            TaskPropertiesMap.builder()
+                                    .operatorPropertyKey("DESTINATION_DATA_TYPE")
+                                    .property("string")
+                                    .build()))
+                    .build());
+        }
+        flowDefinition = FlowDefinition.builder()
+                .flowName("benchmarkFlow")
+                .description("Benchmark flow")
+                .kmsArn("arn:aws:kms:us-east-1:123456789012:key/benchmark")
+                .sourceFlowConfig(SourceFlowConfig.builder()
+                        .connectorType(CONNECTOR_TYPE)
+                        .connectorProfileName("benchmarkProfile")
+                        .incrementalPullConfig(IncrementalPullConfig.builder()
+                                .datetimeTypeFieldName("LastModifiedDate")
+                                .build())
+                        .sourceConnectorProperties(SourceConnectorProperties.builder()
+                                .salesforce(SalesforceSourceProperties.builder()
+                                        .object("Account")
+                                        .enableDynamicFieldUpdate(false)
+                                        .includeDeletedRecords(false)
+                                        .build())
+                                .build())
+                        .build())
+                .triggerConfig(TriggerConfig.builder()
+                        .triggerType("Scheduled")
+                        .triggerProperties(TriggerProperties.builder()
+                                .scheduled(ScheduledTriggerProperties.builder()
+                                        .dataPullMode("Incremental")
+                                        .scheduleExpression("rate(1hours)")
+                                        .scheduleStartTime(1600000000.0)
+                                        .scheduleEndTime(1900000000.0)
+                                        .firstExecutionFrom(1600000000.0)
+                                        .scheduleOffset(1000)
+                                        .timezone("UTC")
+                                        .build())
+                                .build())
+                        .build())
+                .tasks(tasks)
+                .build();
+    }
+
+    @Benchmark
+    public software.amazon.awssdk.services.customerprofiles.model.FlowDefinition buildServiceFlowDefinition() {
+        return Translator.buildServiceFlowDefinition(flowDefinition);
+    }
+
+    @Benchmark
+    public List<software.amazon.awssdk.services.customerprofiles.model.Task> toServiceTasks() {
+        return TaskTranslator.toServiceTasks(flowDefinition.getTasks(), CONNECTOR_TYPE);
+    }
+
+    @Benchmark
+    public software.amazon.awssdk.services.customerprofiles.model.TriggerConfig toServiceTriggerConfig() {
+        return TriggerConfigTranslator.toServiceTriggerConfig(flowDefinition.getTriggerConfig());
+    }
+}
@@ -0,0 +1,338 @@
+package software.amazon.customerprofiles.load;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.customerprofiles.fake.FakeCustomerProfilesEndpoint;
+import software.amazon.customerprofiles.fake.FakeCustomerProfilesService;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Replays recorded CloudFormation handler payloads through the generated {@code HandlerWrapper::testEntrypoint} of a
+ * resource type, from many threads at once, against a local {@link FakeCustomerProfilesEndpoint}.
+ *
+ * A scenario is a directory of payload files ({@code ResourceHandlerTestPayload} JSON) replayed in file name order;
+ * {@value #ID_PLACEHOLDER} in a file is replaced by the number of the run, so concurrent runs work on their own
+ * resources. An invocation that answers IN_PROGRESS is called again at once with its callback context. The report
+ * gives, per action, the invocation count, error rate, latency percentiles and bytes allocated by the calling thread.
+ *
+ * The handlers build their clients from the environment, so {@code CUSTOMER_PROFILES_ENDPOINT} has to name the
+ * loopback port the endpoint listens on, for example {@code CUSTOMER_PROFILES_ENDPOINT=http://127.0.0.1:8089}.
+ */
+public final class LoadHarness {
+
+    static final String ID_PLACEHOLDER = "{{id}}";
+    static final String SEED_DOMAIN = "loadDomain";
+    private static final String ENDPOINT_ENV = "CUSTOMER_PROFILES_ENDPOINT";
+    private static final int MAX_CALLBACKS = 20;
+    private static final int REMAINING_TIME_MILLIS = 15 * 60 * 1000;
+
+    private static final Map<String, Supplier<Entrypoint>> ENTRYPOINTS = new HashMap<>();
+
+    static {
+        ENTRYPOINTS.put("domain", () -> new software.amazon.customerprofiles.domain.HandlerWrapper()::testEntrypoint);
+        ENTRYPOINTS.put("objecttype",
+                () -> new software.amazon.customerprofiles.objecttype.HandlerWrapper()::testEntrypoint);
+        ENTRYPOINTS.put("integration",
+                () -> new software.amazon.customerprofiles.integration.HandlerWrapper()::testEntrypoint);
+    }
+
+    /**
+     * The {@code testEntrypoint} method of one HandlerWrapper instance.
+     */
+    interface Entrypoint {
+        void invoke(InputStream input, OutputStream output, Context context) throws IOException;
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, ActionStats> stats = new TreeMap<>();
+    private final AtomicLong failedRuns = new AtomicLong();
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final ThreadLocal<Entrypoint> entrypoint;
+    private final List<String> payloads;
+
+    LoadHarness(final Supplier<Entrypoint> entrypoint, final List<String> payloads) {
+        this.entrypoint = ThreadLocal.withInitial(entrypoint);
+        this.payloads = payloads;
+    }
+
+    /**
+     * Usage: {@code LoadHarness --resource domain [--scenario load/domain] [--concurrency 16] [--runs 1000]
+     * [--latency-millis 0] [--throttle-rate 0] [--server-error-rate 0]}
+     */
+    public static void main(final String[] args) throws Exception {
+        final Map<String, String> options = options(args);
+        final String resource = options.getOrDefault("resource", "domain");
+        final Path scenario = Paths.get(options.getOrDefault("scenario", "load/" + resource));
+        final int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "16"));
+        final int runs = Integer.parseInt(options.getOrDefault("runs", "1000"));
+
+        final String endpoint = System.getenv(ENDPOINT_ENV);
+        if (endpoint == null || !ENTRYPOINTS.containsKey(resource)) {
+            System.err.println("Set " + ENDPOINT_ENV + "=http://127.0.0.1:<port> and pass --resource with one of "
+                    + ENTRYPOINTS.keySet());
+            System.exit(1);
+        }
+
+        final FakeCustomerProfilesService service = new FakeCustomerProfilesService(
+                Long.parseLong(options.getOrDefault("latency-millis", "0")),
+                Double.parseDouble(options.getOrDefault("throttle-rate", "0")),
+                Double.parseDouble(options.getOrDefault("server-error-rate", "0")),
+                100);
+        service.seedDomain(SEED_DOMAIN);
+
+        try (FakeCustomerProfilesEndpoint server =
+                     new FakeCustomerProfilesEndpoint(service, URI.create(endpoint).getPort(), concurrency)) {
+            final LoadHarness harness = new LoadHarness(ENTRYPOINTS.get(resource), readScenario(scenario));
+            final long start = System.nanoTime();
+            harness.run(concurrency, runs);
+            final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            System.out.printf("%s: %d runs of %s on %d threads against %s in %d ms, %d runs failed%n",
+                    resource, runs, scenario, concurrency, server.uri(), elapsedMillis, harness.failedRuns.get());
+            System.out.printf("service: %d calls, %d throttled, %d server errors%n",
+                    service.getCalls(), service.getThrottles(), service.getServerErrors());
+            System.out.print(harness.report());
+        }
+    }
+
+    /**
+     * Replays the scenario {@code runs} times on {@code concurrency} threads and waits for all of them.
+     */
+    void run(final int concurrency, final int runs) throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        for (int run = 1; run <= runs; run++) {
+            final String id = String.valueOf(run);
+            executor.execute(() -> runScenario(id));
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.DAYS);
+    }
+
+    /**
+     * @return one line per action: invocations, error rate, latency percentiles in milliseconds, bytes per call
+     */
+    String report() {
+        final StringBuilder report = new StringBuilder(String.format("%-8s %8s %7s %9s %9s %9s %9s %12s%n",
+                "action", "calls", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms", "bytes/call"));
+        synchronized (stats) {
+            stats.forEach((action, actionStats) -> report.append(actionStats.line(action)));
+        }
+        return report.toString();
+    }
+
+    private void runScenario(final String id) {
+        for (final String payload : payloads) {
+            try {
+                if (!invoke((ObjectNode) mapper.readTree(payload.replace(ID_PLACEHOLDER, id)))) {
+                    failedRuns.incrementAndGet();
+                    return;
+                }
+            } catch (IOException | RuntimeException e) {
+                failedRuns.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Invokes the handler until it stops answering IN_PROGRESS, recording every invocation.
+     * @return true when the handler finished with SUCCESS
+     */
+    private boolean invoke(final ObjectNode payload) throws IOException {
+        final String action = payload.path("action").asText();
+        for (int callback = 0; callback <= MAX_CALLBACKS; callback++) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final byte[] input = mapper.writeValueAsBytes(payload);
+            final long threadId = Thread.currentThread().getId();
+            final long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            final long start = System.nanoTime();
+            entrypoint.get().invoke(new ByteArrayInputStream(input), output, LocalContext.INSTANCE);
+            final long latencyNanos = System.nanoTime() - start;
+            final long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+            final JsonNode response = mapper.readTree(output.toByteArray());
+            final String status = response.path("status").asText();
+            stats(action).record(latencyNanos, allocated, !"FAILED".equals(status));
+            if (!"IN_PROGRESS".equals(status)) {
+                return "SUCCESS".equals(status);
+            }
+            payload.set("callbackContext", response.get("callbackContext"));
+        }
+        return false;
+    }
+
+    private ActionStats stats(final String action) {
+        synchronized (stats) {
+            return stats.computeIfAbsent(action, key -> new ActionStats());
+        }
+    }
+
+    private static List<String> readScenario(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            final List<String> payloads = new ArrayList<>();
+            for (final Path file : files.filter(f -> f.toString().endsWith(".json")).sorted()
+                    .collect(Collectors.toList())) {
+                payloads.add(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+            }
+            return payloads;
+        }
+    }
+
+    private static Map<String, String> options(final String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        final List<String> list = Arrays.asList(args);
+        for (int i = 0; i + 1 < list.size(); i += 2) {
+            options.put(list.get(i).replaceFirst("^--", ""), list.get(i + 1));
+        }
+        return options;
+    }
+
+    /**
+     * Latencies and allocations of every invocation of one action.
+     */
+    static final class ActionStats {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+        private long allocatedBytes;
+
+        synchronized void record(final long latencyNanos, final long allocated, final boolean succeeded) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            allocatedBytes += allocated;
+            if (!succeeded) {
+                errors++;
+            }
+        }
+
+        /**
+         * @param percentile between 0 and 100
+         * @return latency in nanoseconds below which that share of invocations finished
+         */
+        synchronized long percentile(final double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            final long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            final int index = (int) Math.ceil(percentile / 100 * count) - 1;
+            return sorted[Math.max(0, Math.min(index, count - 1))];
+        }
+
+        synchronized String line(final String action) {
+            return String.format("%-8s %8d %6.2f%% %9.2f %9.2f %9.2f %9.2f %12d%n",
+                    action, count, 100.0 * errors / Math.max(count, 1),
+                    millis(percentile(50)), millis(percentile(90)), millis(percentile(99)), millis(percentile(100)),
+                    allocatedBytes / Math.max(count, 1));
+        }
+
+        private static double millis(final long nanos) {
+            return nanos / 1e6;
+        }
+    }
+
+    /**
+     * Lambda context of a local invocation: plenty of remaining time, log lines dropped.
+     */
+    static final class LocalContext implements Context {
+
+        static final LocalContext INSTANCE = new LocalContext();
+
+        private static final LambdaLogger LOGGER = new LambdaLogger() {
+            @Override
+            public void log(final String message) {
+            }
+
+            @Override
+            public void log(final byte[] message) {
+            }
+        };
+
+        @Override
+        public String getAwsRequestId() {
+            return "load";
+        }
+
+        @Override
+        public String getLogGroupName() {
+            return "load";
+        }
+
+        @Override
+        public String getLogStreamName() {
+            return "load";
+        }
+
+        @Override
+        public String getFunctionName() {
+            return "load";
+        }
+
+        @Override
+        public String getFunctionVersion() {
+            return "$LATEST";
+        }
+
+        @Override
+        public String getInvokedFunctionArn() {
+            return "arn:aws:lambda:us-east-1:123456789012:function:load";
+        }
+
+        @Override
+        public CognitoIdentity getIdentity() {
+            return null;
+        }
+
+        @Override
+        public ClientContext getClientContext() {
+            return null;
+        }
+
+        @Override
+        public int getRemainingTimeInMillis() {
+            return REMAINING_TIME_MILLIS;
+        }
+
+        @Override
+        public int getMemoryLimitInMB() {
+            return 256;
+        }
+
+        @Override
+        public LambdaLogger getLogger() {
+            return LOGGER;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package software.amazon.customerprofiles.objecttype;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.customerprofiles.fake.FakeCustomerProfilesService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall-clock time to get 32 object types from {@link FakeCustomerProfilesService} with a service latency of 10 ms,
+ * through {@link FanOut} at several concurrencies. A concurrency of 1 is the sequential path: every call runs on the
+ * benchmark thread, one after the other.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class FanOutBenchmark {
+
+    private static final String DOMAIN_NAME = "benchmarkDomain";
+    private static final int OBJECT_TYPES = 32;
+    private static final long LATENCY_MILLIS = 10;
+
+    @Param({"1", "4", "8", "16"})
+    public int concurrency;
+
+    private FakeCustomerProfilesService service;
+    private AmazonWebServicesClientProxy proxy;
+    private ExecutorService executor;
+    private FanOut fanOut;
+    private List<GetProfileObjectTypeRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        service = new FakeCustomerProfilesService(LATENCY_MILLIS, 0, 0, 100);
+        service.seedDomain(DOMAIN_NAME);
+        requests = new ArrayList<>(OBJECT_TYPES);
+        for (int i = 0; i < OBJECT_TYPES; i++) {
+            service.seedObjectType(DOMAIN_NAME, "objectType" + i);
+            requests.add(GetProfileObjectTypeRequest.builder()
+                    .domainName(DOMAIN_NAME)
+                    .objectTypeName("objectType" + i)
+                    .build());
+        }
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(), new Credentials("id", "secret", "token"),
+                () -> TimeUnit.MINUTES.toMillis(15));
+        executor = Executors.newCachedThreadPool();
+        fanOut = new FanOut(concurrency, executor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public List<GetProfileObjectTypeResponse> getAll() {
+        return fanOut.invokeAll(requests,
+                request -> ServiceInvoker.invoke(proxy, request, service::getProfileObjectType));
+    }
+}
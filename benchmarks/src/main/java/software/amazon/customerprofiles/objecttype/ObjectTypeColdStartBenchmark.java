@@ -0,0 +1,78 @@
+package software.amazon.customerprofiles.objecttype;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeRequest;
+import software.amazon.awssdk.services.customerprofiles.model.GetProfileObjectTypeResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the first Read in a fresh JVM, with and without {@link Bootstrap}.
+ *
+ * Every fork is a new JVM, so a single shot measures the cold path: the lazy variant loads the SDK client,
+ * marshallers and Jackson inside the measured call, the bootstrapped variant has done that during
+ * initialisation (the trial setup). The HTTP call itself is answered by an in-memory stub.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(20)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class ObjectTypeColdStartBenchmark {
+
+    private static final String REGION = "us-east-1";
+    private static final String DOMAIN_NAME = "benchmarkDomain";
+    private static final String OBJECT_TYPE_NAME = "benchmarkObjectType";
+
+    @Param({"false", "true"})
+    public boolean eagerBootstrap;
+
+    @Setup(Level.Trial)
+    public void initialise() {
+        if (eagerBootstrap) {
+            Bootstrap.warmUp(REGION);
+        }
+    }
+
+    @Benchmark
+    public String firstRead() throws IOException {
+        ClientBuilder.getClient(REGION);
+        try (CustomerProfilesClient client = CustomerProfilesClient.builder()
+                .httpClient(new Bootstrap.StubHttpClient())
+                .region(Region.of(REGION))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("id", "secret")))
+                .build()) {
+            final GetProfileObjectTypeResponse response = client.getProfileObjectType(GetProfileObjectTypeRequest.builder()
+                    .domainName(DOMAIN_NAME)
+                    .objectTypeName(OBJECT_TYPE_NAME)
+                    .build());
+            final ResourceModel model = ResourceModel.builder()
+                    .domainName(DOMAIN_NAME)
+                    .objectTypeName(OBJECT_TYPE_NAME)
+                    .expirationDays(response.expirationDays())
+                    .fields(Translator.mapFieldsToList(response.fields()))
+                    .keys(Translator.mapKeysToList(response.keys()))
+                    .tags(Translator.mapTagsToList(response.tags()))
+                    .build();
+            return new ObjectMapper().writeValueAsString(model);
+        }
+    }
+}
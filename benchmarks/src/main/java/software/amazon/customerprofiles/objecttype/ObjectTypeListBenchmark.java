@@ -0,0 +1,133 @@
+package software.amazon.customerprofiles.objecttype;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.customerprofiles.CustomerProfilesClient;
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypeItem;
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypesRequest;
+import software.amazon.awssdk.services.customerprofiles.model.ListProfileObjectTypesResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lists a domain holding thousands of object types through {@link ListHandler}, draining every page in one
+ * invocation, against an in-memory ListProfileObjectTypes.
+ *
+ * The teardown checks that each invocation made exactly one call per page, so a pagination token bug shows up as a
+ * failed run rather than a slow one. Run with {@code -prof gc} to see the allocation per invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ObjectTypeListBenchmark {
+
+    private static final String DOMAIN_NAME = "benchmarkDomain";
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "10000"})
+    public int objectTypes;
+
+    private FakeListClient client;
+    private AmazonWebServicesClientProxy proxy;
+    private ResourceHandlerRequest<ResourceModel> request;
+    private long invocations;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = new FakeListClient(objectTypes, PAGE_SIZE);
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(), new Credentials("id", "secret", "token"),
+                () -> TimeUnit.MINUTES.toMillis(15));
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().domainName(DOMAIN_NAME).build())
+                .build();
+    }
+
+    @Benchmark
+    public int drainAllPages() {
+        invocations++;
+        final ProgressEvent<ResourceModel, CallbackContext> event = new ListHandler(client, Long.MAX_VALUE, 60000)
+                .handleRequest(proxy, request, null, message -> { });
+        return event.getResourceModels().size();
+    }
+
+    @TearDown(Level.Trial)
+    public void checkCallCount() {
+        final long pages = (objectTypes + PAGE_SIZE - 1) / PAGE_SIZE;
+        if (client.calls.get() != invocations * pages) {
+            throw new IllegalStateException(String.format("Expected %d ListProfileObjectTypes calls, made %d",
+                    invocations * pages, client.calls.get()));
+        }
+    }
+
+    /**
+     * Serves a fixed set of object types in pages, using the index of the next item as the token. The pages are
+     * built once so the benchmark measures the handler, not the fake.
+     */
+    static final class FakeListClient implements CustomerProfilesClient {
+
+        private final List<ListProfileObjectTypesResponse> pages = new ArrayList<>();
+        private final AtomicLong calls = new AtomicLong();
+        private final int pageSize;
+
+        FakeListClient(final int objectTypes, final int pageSize) {
+            this.pageSize = pageSize;
+            for (int start = 0; start < objectTypes; start += pageSize) {
+                final int end = Math.min(start + pageSize, objectTypes);
+                final List<ListProfileObjectTypeItem> items = new ArrayList<>(end - start);
+                for (int i = start; i < end; i++) {
+                    items.add(ListProfileObjectTypeItem.builder()
+                            .objectTypeName("objectType" + i)
+                            .description("Benchmark object type " + i)
+                            .createdAt(Instant.EPOCH)
+                            .lastUpdatedAt(Instant.EPOCH)
+                            .tags(Collections.emptyMap())
+                            .build());
+                }
+                pages.add(ListProfileObjectTypesResponse.builder()
+                        .items(items)
+                        .nextToken(end < objectTypes ? String.valueOf(end) : null)
+                        .build());
+            }
+        }
+
+        @Override
+        public ListProfileObjectTypesResponse listProfileObjectTypes(final ListProfileObjectTypesRequest request) {
+            calls.incrementAndGet();
+            final int start = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+            return pages.get(start / pageSize);
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
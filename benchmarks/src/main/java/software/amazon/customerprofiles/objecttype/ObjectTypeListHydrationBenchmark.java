@@ -0,0 +1,92 @@
+package software.amazon.customerprofiles.objecttype;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.customerprofiles.fake.FakeCustomerProfilesService;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Object types per second that a hydrating {@link ListHandler} returns with full details, listing one page of 100
+ * from {@link FakeCustomerProfilesService} with 10 ms of latency per call, at several fan-out concurrencies.
+ *
+ * With a throttling rate, throttled Gets are retried by {@link ServiceInvoker}, so throughput stops growing once the
+ * extra concurrency only produces more throttles. The teardown prints the throttle count; an object type missing
+ * from the page fails the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(ObjectTypeListHydrationBenchmark.OBJECT_TYPES)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ObjectTypeListHydrationBenchmark {
+
+    static final int OBJECT_TYPES = 100;
+    private static final String DOMAIN_NAME = "benchmarkDomain";
+    private static final long LATENCY_MILLIS = 10;
+
+    @Param({"1", "4", "8", "16", "32"})
+    public int concurrency;
+
+    @Param({"0", "0.05"})
+    public double throttleRate;
+
+    private FakeCustomerProfilesService service;
+    private AmazonWebServicesClientProxy proxy;
+    private ExecutorService executor;
+    private ListHandler handler;
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        service = new FakeCustomerProfilesService(LATENCY_MILLIS, throttleRate, 0, OBJECT_TYPES);
+        service.seedDomain(DOMAIN_NAME);
+        for (int i = 0; i < OBJECT_TYPES; i++) {
+            service.seedObjectType(DOMAIN_NAME, "objectType" + i);
+        }
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(), new Credentials("id", "secret", "token"),
+                () -> TimeUnit.MINUTES.toMillis(15));
+        executor = Executors.newCachedThreadPool();
+        handler = new ListHandler(service, 1, TimeUnit.MINUTES.toMillis(1), true, new FanOut(concurrency, executor));
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().domainName(DOMAIN_NAME).build())
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        System.out.printf("%d calls, %d throttled%n", service.getCalls(), service.getThrottles());
+    }
+
+    @Benchmark
+    public int listHydrated() {
+        final ProgressEvent<ResourceModel, CallbackContext> event =
+                handler.handleRequest(proxy, request, null, message -> { });
+        if (event.getResourceModels().size() != OBJECT_TYPES) {
+            throw new IllegalStateException("Object types were missing from the hydrated page");
+        }
+        return event.getResourceModels().size();
+    }
+}
@@ -0,0 +1,147 @@
+package software.amazon.customerprofiles.objecttype;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.customerprofiles.model.DeleteProfileObjectTypeRequest;
+import software.amazon.awssdk.services.customerprofiles.model.ResourceNotFoundException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.customerprofiles.fake.FakeCustomerProfilesService;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Every object type handler under concurrent load: each operation runs Create, Read, Update, List and Delete for a
+ * new object type in one shared domain against {@link FakeCustomerProfilesService}, from 64 threads at once.
+ *
+ * The service latency, throttling rate and 5xx rate are parameters. A lifecycle that fails on an injected fault is
+ * cleaned up and counted; without faults the teardown fails the run if any lifecycle failed or left an object type
+ * behind.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Threads(64)
+public class ObjectTypeLoadBenchmark {
+
+    private static final Logger LOGGER = message -> { };
+    private static final String DOMAIN_NAME = "loadDomain";
+    private static final int CLEAN_UP_ATTEMPTS = 10;
+    private static final Map<String, String> PREVIOUS_TAGS = Collections.singletonMap("owner", "load");
+    private static final Map<String, String> DESIRED_TAGS = Collections.singletonMap("stage", "load");
+
+    @Param({"0", "10"})
+    public long latencyMillis;
+
+    @Param({"0", "0.05"})
+    public double throttleRate;
+
+    @Param({"0", "0.01"})
+    public double serverErrorRate;
+
+    private FakeCustomerProfilesService service;
+    private AmazonWebServicesClientProxy proxy;
+    private final AtomicLong names = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        service = new FakeCustomerProfilesService(latencyMillis, throttleRate, serverErrorRate, 100);
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(), new Credentials("id", "secret", "token"),
+                () -> TimeUnit.MINUTES.toMillis(15));
+        service.seedDomain(DOMAIN_NAME);
+    }
+
+    @Benchmark
+    public boolean lifecycle() {
+        final String objectTypeName = "loadObjectType" + names.incrementAndGet();
+        final ResourceModel created = ResourceModel.builder()
+                .domainName(DOMAIN_NAME)
+                .objectTypeName(objectTypeName)
+                .description("Load test object type")
+                .expirationDays(30)
+                .build();
+        final ResourceModel updated = ResourceModel.builder()
+                .domainName(DOMAIN_NAME)
+                .objectTypeName(objectTypeName)
+                .description("Updated load test object type")
+                .expirationDays(60)
+                .build();
+        try {
+            new CreateHandler(service).handleRequest(proxy, request(created, null, PREVIOUS_TAGS, null), null, LOGGER);
+            new ReadHandler(service).handleRequest(proxy, request(created, null, null, null), null, LOGGER);
+            new UpdateHandler(service).handleRequest(proxy,
+                    request(updated, created, DESIRED_TAGS, PREVIOUS_TAGS), null, LOGGER);
+            new ListHandler(service).handleRequest(proxy, request(updated, null, null, null), null, LOGGER);
+            new DeleteHandler(service).handleRequest(proxy, request(updated, null, null, null), null, LOGGER);
+            return true;
+        } catch (BaseHandlerException e) {
+            failures.incrementAndGet();
+            cleanUp(objectTypeName);
+            return false;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void checkNothingLeft() {
+        System.out.printf("%d lifecycles, %d failed, %d calls, %d throttled, %d server errors%n",
+                names.get(), failures.get(), service.getCalls(), service.getThrottles(), service.getServerErrors());
+        if (throttleRate == 0 && serverErrorRate == 0 && (failures.get() > 0 || service.getObjectTypeCount() > 0)) {
+            throw new IllegalStateException(String.format("%d lifecycles failed and %d object types were left behind",
+                    failures.get(), service.getObjectTypeCount()));
+        }
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired,
+                                                                 final ResourceModel previous,
+                                                                 final Map<String, String> desiredTags,
+                                                                 final Map<String, String> previousTags) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId("123456789012")
+                .awsPartition("aws")
+                .region("us-east-1")
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .desiredResourceTags(desiredTags)
+                .previousResourceTags(previousTags)
+                .build();
+    }
+
+    private void cleanUp(final String objectTypeName) {
+        for (int attempt = 0; attempt < CLEAN_UP_ATTEMPTS; attempt++) {
+            try {
+                service.deleteProfileObjectType(DeleteProfileObjectTypeRequest.builder()
+                        .domainName(DOMAIN_NAME)
+                        .objectTypeName(objectTypeName)
+                        .build());
+                return;
+            } catch (ResourceNotFoundException e) {
+                return;
+            } catch (RuntimeException e) {
+                // an injected fault; try again
+            }
+        }
+    }
+}
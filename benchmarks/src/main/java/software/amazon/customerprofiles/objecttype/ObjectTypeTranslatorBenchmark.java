@@ -0,0 +1,93 @@
+package software.amazon.customerprofiles.objecttype;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the objecttype {@link Translator} field and key conversions on a large object type: 200 fields and
+ * 50 keys of two entries each, in both directions. Run with {@code -prof gc} (or the {@code benchmark} profile) to
+ * get the allocation rate alongside.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ObjectTypeTranslatorBenchmark {
+
+    static final int FIELDS = 200;
+    static final int KEYS = 50;
+
+    private List<FieldMap> fieldMaps;
+    private List<KeyMap> keyMaps;
+    private Map<String, software.amazon.awssdk.services.customerprofiles.model.ObjectTypeField> serviceFields;
+    private Map<String, List<software.amazon.awssdk.services.customerprofiles.model.ObjectTypeKey>> serviceKeys;
+
+    @Setup
+    public void setup() {
+        fieldMaps = new ArrayList<>(FIELDS);
+        for (int i = 0; i < FIELDS; i++) {
+            fieldMaps.add(FieldMap.builder()
+                    .name("field" + i)
+                    .objectTypeField(ObjectTypeField.builder()
+                            .contentType("STRING")
+                            .source("_source.field" + i)
+                            .target("_profile.Attributes.field" + i)
+                            .build())
+                    .build());
+        }
+        keyMaps = new ArrayList<>(KEYS);
+        for (int i = 0; i < KEYS; i++) {
+            keyMaps.add(KeyMap.builder()
+                    .name("key" + i)
+                    .objectTypeKeyList(Arrays.asList(
+                            ObjectTypeKey.builder()
+                                    .fieldNames(Arrays.asList("field" + i, "field" + (i + KEYS)))
+                                    .standardIdentifiers(Arrays.asList("PROFILE", "UNIQUE"))
+                                    .build(),
+                            ObjectTypeKey.builder()
+                                    .fieldNames(Collections.singletonList("field" + (i + 2 * KEYS)))
+                                    .standardIdentifiers(Collections.singletonList("LOOKUP_ONLY"))
+                                    .build()))
+                    .build());
+        }
+        serviceFields = Translator.listFieldsToMap(fieldMaps);
+        serviceKeys = Translator.listKeysToMap(keyMaps);
+    }
+
+    @Benchmark
+    public Map<String, software.amazon.awssdk.services.customerprofiles.model.ObjectTypeField> listFieldsToMap() {
+        return Translator.listFieldsToMap(fieldMaps);
+    }
+
+    @Benchmark
+    public List<FieldMap> mapFieldsToList() {
+        return Translator.mapFieldsToList(serviceFields);
+    }
+
+    @Benchmark
+    public Map<String, List<software.amazon.awssdk.services.customerprofiles.model.ObjectTypeKey>> listKeysToMap() {
+        return Translator.listKeysToMap(keyMaps);
+    }
+
+    @Benchmark
+    public List<KeyMap> mapKeysToList() {
+        return Translator.mapKeysToList(serviceKeys);
+    }
+}
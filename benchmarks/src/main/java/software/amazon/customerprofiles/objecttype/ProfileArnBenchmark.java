@@ -0,0 +1,61 @@
+package software.amazon.customerprofiles.objecttype;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one object type ARN: {@code format} is how {@link Translator} built it before {@link ProfileArn},
+ * {@code build} asks for the same object type each time and is answered by the last ARN built, {@code buildOther}
+ * alternates between two object types so every call concatenates onto the reused prefix, and {@code parse} goes back
+ * from the ARN to its parts.
+ * Run with {@code -prof gc} to compare the bytes allocated per ARN.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ProfileArnBenchmark {
+
+    private static final String FORMAT = "arn:%s:profile:%s:%s:domains/%s/object-types/%s";
+
+    public String partition = "aws";
+    public String region = "us-east-1";
+    public String accountId = "123456789012";
+    public String domainName = "benchmarkDomain";
+    public String objectTypeName = "benchmarkObjectType";
+    public String[] otherObjectTypeNames = {"benchmarkObjectTypeA", "benchmarkObjectTypeB"};
+    public String arn = ProfileArn.objectType(partition, region, accountId, domainName, objectTypeName);
+    private int next;
+
+    @Benchmark
+    public String format() {
+        return String.format(FORMAT, partition, region, accountId, domainName, objectTypeName);
+    }
+
+    @Benchmark
+    public String build() {
+        return ProfileArn.objectType(partition, region, accountId, domainName, objectTypeName);
+    }
+
+    @Benchmark
+    public String buildOther() {
+        next ^= 1;
+        return ProfileArn.objectType(partition, region, accountId, domainName, otherObjectTypeNames[next]);
+    }
+
+    @Benchmark
+    public String parse() {
+        return ProfileArn.parse(arn).getObjectTypeName();
+    }
+}